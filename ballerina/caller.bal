@@ -27,6 +27,19 @@ public isolated client class Caller {
         'class: "io.ballerina.stdlib.java.jms.listener.Caller"
     } external;
 
+    # Sends a reply to the reply destination of a request message. The correlation ID of the reply is set to the
+    # correlation ID of the request, or to the message ID of the request if the request does not have a correlation ID.
+    # ```ballerina
+    # check caller->reply(request, {content: "response"});
+    # ```
+    #
+    # + request - The received request message
+    # + response - The reply message
+    # + return - A `jms:Error` if the request does not have a reply destination or there is an error, or else `()`
+    isolated remote function reply(Message request, Message response) returns Error? = @java:Method {
+        'class: "io.ballerina.stdlib.java.jms.listener.Caller"
+    } external;
+
     # Commits all messages received in this transaction and releases any locks currently held.
     # ```ballerina
     # check session->'commit();
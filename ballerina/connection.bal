@@ -51,6 +51,21 @@ public isolated client class Connection {
         return new Session(self, ackMode);
     }
 
+    # Creates a pool of producers, each with its own `AUTO_ACKNOWLEDGE` session, through which messages can be sent
+    # concurrently from multiple strands.
+    # ```ballerina
+    # jms:ProducerPool pool = check connection->createProducerPool(poolSize = 20, destination = {
+    #   'type: jms:QUEUE,
+    #   name: "test-queue"
+    # });
+    # ```
+    #
+    # + config - The producer pool configurations
+    # + return - Returns the `jms:ProducerPool` or an error if it fails.
+    isolated remote function createProducerPool(*ProducerPoolConfiguration config) returns ProducerPool|Error {
+        return new ProducerPool(self, config);
+    }
+
     # Starts (or restarts) a connection's delivery of incoming messages.
     # A call to start on a connection that has already been started is ignored.
     # ```ballerina
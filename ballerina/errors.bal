@@ -16,3 +16,14 @@
 
 # Represents a JMS distinct error.
 public type Error distinct error;
+
+# Represents the details of a `jms:BatchReceiveError`.
+#
+# + messages - The messages which were received before the failure
+public type BatchReceiveErrorDetail record {|
+    Message[] messages;
+|};
+
+# Represents an error which occurred while receiving a batch of messages. The messages received before the failure
+# are already consumed, hence they are returned with the error instead of being lost.
+public type BatchReceiveError distinct (Error & error<BatchReceiveErrorDetail>);
@@ -14,6 +14,7 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/data.jsondata as _;
 import ballerina/jballerina.java;
 
 isolated function init() {
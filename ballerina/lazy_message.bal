@@ -0,0 +1,120 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Represents a received JMS message, of which the headers, the properties and the content are converted only when
+# they are accessed. This avoids converting the messages which are filtered or routed without reading their content.
+# A `jms:Service` receives a `jms:LazyMessage` when the `onMessage` method declares a parameter of this type, and a
+# `jms:MessageConsumer` returns it from `receiveLazy` and `lazyStream`.
+#
+# Only the conversion to Ballerina values is deferred. The JMS provider receives the whole message, including its
+# body, before it is delivered, hence the message body is held in memory regardless of whether it is accessed.
+public isolated class LazyMessage {
+
+    # Returns the unique identifier of the message.
+    #
+    # + return - The message ID, or else a `jms:Error` if there is an error
+    public isolated function messageId() returns string|Error? = @java:Method {
+        'class: "io.ballerina.stdlib.java.jms.LazyMessage"
+    } external;
+
+    # Returns the correlation ID of the message.
+    #
+    # + return - The correlation ID, or else a `jms:Error` if there is an error
+    public isolated function correlationId() returns string|Error? = @java:Method {
+        'class: "io.ballerina.stdlib.java.jms.LazyMessage"
+    } external;
+
+    # Returns the message type identifier supplied by the client when the message was sent.
+    #
+    # + return - The JMS type, or else a `jms:Error` if there is an error
+    public isolated function jmsType() returns string|Error? = @java:Method {
+        'class: "io.ballerina.stdlib.java.jms.LazyMessage"
+    } external;
+
+    # Returns a single property of the message, without converting the other properties.
+    #
+    # + name - Name of the property
+    # + return - The property value, `()` if the property is not set, or else a `jms:Error` if there is an error
+    public isolated function property(string name) returns Property|Error? = @java:Method {
+        'class: "io.ballerina.stdlib.java.jms.LazyMessage"
+    } external;
+
+    # Returns all the properties of the message. The properties are converted on the first access, and the same
+    # read-only map is returned by each access.
+    #
+    # + return - The message properties, or else a `jms:Error` if there is an error
+    public isolated function properties() returns map<Property>|Error = @java:Method {
+        'class: "io.ballerina.stdlib.java.jms.LazyMessage"
+    } external;
+
+    # Returns the content of the message. The content is decoded on the first access, and the same read-only value is
+    # returned by each access.
+    #
+    # + return - The message content, or else a `jms:Error` if there is an error
+    public isolated function content() returns string|map<Value>|byte[]|Error = @java:Method {
+        'class: "io.ballerina.stdlib.java.jms.LazyMessage"
+    } external;
+
+    # Returns the content of a bytes message as a stream of chunks, so that a large content is not copied into a single
+    # Ballerina byte array. The JMS provider still holds the whole body of the received message in memory. The content
+    # is read from the beginning, and it should not be read through `content()` while the stream is in use.
+    # ```ballerina
+    # stream<byte[], jms:Error?> chunks = check message.contentChunks(65536);
+    # ```
+    #
+    # + chunkSize - Maximum number of bytes in a chunk
+    # + return - The stream of content chunks, or else a `jms:Error` if the message is not a bytes message
+    public isolated function contentChunks(int chunkSize = 8192) returns stream<byte[], Error?>|Error {
+        BytesContentStream contentStream = check new (self, chunkSize);
+        return new (contentStream);
+    }
+
+    # Converts the message to a `jms:Message` record, which can be acknowledged or replied to through the
+    # `jms:Caller`. The record does not share the read-only properties and content returned by the other functions.
+    #
+    # + return - The message record, or else a `jms:Error` if there is an error
+    public isolated function toMessage() returns Message|Error = @java:Method {
+        'class: "io.ballerina.stdlib.java.jms.LazyMessage"
+    } external;
+}
+
+# Iterates over the content of a bytes message in fixed-size chunks.
+isolated class BytesContentStream {
+
+    isolated function init(LazyMessage message, int chunkSize) returns Error? {
+        return self.externInit(message, chunkSize);
+    }
+
+    isolated function externInit(LazyMessage message, int chunkSize) returns Error? = @java:Method {
+        name: "init",
+        'class: "io.ballerina.stdlib.java.jms.BytesContentReader"
+    } external;
+
+    public isolated function next() returns record {|byte[] value;|}|Error? {
+        byte[]|Error? chunk = self.externNext();
+        if chunk is byte[] {
+            return {value: chunk};
+        }
+        return chunk;
+    }
+
+    isolated function externNext() returns byte[]|Error? = @java:Method {
+        name: "next",
+        'class: "io.ballerina.stdlib.java.jms.BytesContentReader"
+    } external;
+}
@@ -71,7 +71,8 @@ public isolated class Listener {
         'class: "io.ballerina.stdlib.java.jms.listener.Listener"
     } external;
 
-    # Stops the JMS listener gracefully.
+    # Stops the JMS listener gracefully. The message delivery is stopped first, and then the listener waits for the
+    # in-flight messages of each service up to its `gracefulStopTimeoutMillis` before closing the JMS sessions.
     # ```ballerina
     # check messageListener.gracefulStop();
     # ```
@@ -50,3 +50,31 @@ public type Message record {
     map<Property> properties?;
     string|map<Value>|byte[] content;
 };
+
+# Represents the headers and the properties of a JMS message, of which the content is provided separately.
+#
+# + correlationId - Id which can be used to correlate multiple messages
+# + replyTo - JMS destination to which a reply to this message should be sent
+# + jmsType - Message type identifier supplied by the client when the message was sent
+# + properties - Additional message properties
+public type MessageHeaders record {|
+    string correlationId?;
+    Destination replyTo?;
+    string jmsType?;
+    map<Property> properties?;
+|};
+
+# Represents the headers of a received JMS message, which can be selected to be included in the `jms:Message` record.
+public type MessageHeader "messageId"|"timestamp"|"correlationId"|"replyTo"|"destination"|"deliveryMode"|
+    "redelivered"|"jmsType"|"expiration"|"deliveredTime"|"priority";
+
+# Represents the headers and the properties to be included when a received JMS message is converted to a
+# `jms:Message` record. The content of the message is always included.
+#
+# + headers - The headers to be included. If this value is not set, all the headers are included
+# + properties - The names of the properties to be included. If this value is not set, all the properties, including
+#                the properties added by the JMS provider, are included
+public type MessageProjection record {|
+    MessageHeader[] headers?;
+    string[] properties?;
+|};
@@ -37,12 +37,15 @@ public enum ConsumerType {
 # + noLocal - if true then any messages published to the topic using this session's connection, or any other connection 
 #             with the same client identifier, will not be added to the durable subscription.
 # + subscriberName - the name used to identify the subscription 
+# + projection - The headers and the properties to be included in the received messages. If this value is not set,
+#                all the headers and the properties are included
 public type ConsumerOptions record {|
     ConsumerType 'type = DEFAULT;
     Destination destination;
     string messageSelector = "";
     boolean noLocal = false;
     string subscriberName?;
+    MessageProjection projection?;
 |};
 
 # JMS Message Consumer client object to receive messages from both queues and topics.
@@ -85,6 +88,19 @@ public isolated client class MessageConsumer {
         'class: "io.ballerina.stdlib.java.jms.consumer.Actions"
     } external;
 
+    # Receives the next message that arrives within the specified timeout interval, without converting it. The
+    # headers, the properties and the content of the message are converted only when they are accessed.
+    # ```ballerina
+    # jms:LazyMessage? message = check consumer->receiveLazy(10000);
+    # ```
+    #
+    # + timeoutMillis - Message receive timeout
+    # + return - A `jms:LazyMessage` if there is a new message, `()` if there is no any new message,
+    # or else a `jms:Error` if there is an error in the execution
+    isolated remote function receiveLazy(int timeoutMillis = 10000) returns LazyMessage|Error? = @java:Method {
+        'class: "io.ballerina.stdlib.java.jms.consumer.Actions"
+    } external;
+
     # Receives the next message if one is immediately available.
     # ```ballerina
     # jms:Message? message = check consumer->receiveNoWait();
@@ -96,6 +112,58 @@ public isolated client class MessageConsumer {
         'class: "io.ballerina.stdlib.java.jms.consumer.Actions"
     } external;
 
+    # Receives a batch of messages in a single call. This waits for the first message up to the specified timeout,
+    # and then collects the messages which are immediately available, until the batch contains `maxMessages` messages.
+    # ```ballerina
+    # jms:Message[] messages = check consumer->receiveBatch(100, 1000);
+    # ```
+    #
+    # + maxMessages - Maximum number of messages in the batch
+    # + timeoutMillis - Maximum time to wait for the first message, which must be positive
+    # + return - The received messages, which is empty if no message arrived within the timeout,
+    # or else a `jms:Error` if there is an error in the execution. If the batch fails after some messages are
+    # received, the error is a `jms:BatchReceiveError`, which carries those messages in its `messages` detail
+    isolated remote function receiveBatch(int maxMessages, int timeoutMillis = 10000) returns Message[]|Error =
+    @java:Method {
+        'class: "io.ballerina.stdlib.java.jms.consumer.Actions"
+    } external;
+
+    # Returns the messages of the consumer as a stream. A background receiver keeps up to `prefetch` messages received
+    # and converted ahead of the stream. Since the buffered messages are consumed ahead of the caller, a stream is only
+    # supported for consumers of `AUTO_ACKNOWLEDGE` and `DUPS_OK_ACKNOWLEDGE` sessions, and while the stream is open,
+    # the other receive functions of the consumer return an error and no other stream can be opened. The background
+    # receiver stops once the stream completes, is closed, or is no longer referenced, and the messages which were
+    # received but not delivered through the stream are returned by the subsequent receives of the consumer.
+    # ```ballerina
+    # stream<jms:Message, jms:Error?> messages = check consumer.'stream(prefetch = 100, idleTimeoutMillis = 5000);
+    # ```
+    #
+    # + prefetch - Maximum number of messages buffered ahead of the stream
+    # + idleTimeoutMillis - Time after which the stream completes if no message arrives. If this is negative, the stream
+    # completes only when it or the consumer is closed
+    # + return - The message stream, or else a `jms:Error` if there is an error
+    public isolated function 'stream(int prefetch = 100, int idleTimeoutMillis = -1)
+            returns stream<Message, Error?>|Error {
+        MessageStream messageStream = check new (self, prefetch, idleTimeoutMillis);
+        return new (messageStream);
+    }
+
+    # Returns the messages of the consumer as a stream of `jms:LazyMessage` objects, which are converted only when they
+    # are accessed. Apart from that, the stream behaves the same as the stream returned by `'stream`.
+    # ```ballerina
+    # stream<jms:LazyMessage, jms:Error?> messages = check consumer.lazyStream(prefetch = 100);
+    # ```
+    #
+    # + prefetch - Maximum number of messages buffered ahead of the stream
+    # + idleTimeoutMillis - Time after which the stream completes if no message arrives. If this is negative, the stream
+    # completes only when it or the consumer is closed
+    # + return - The message stream, or else a `jms:Error` if there is an error
+    public isolated function lazyStream(int prefetch = 100, int idleTimeoutMillis = -1)
+            returns stream<LazyMessage, Error?>|Error {
+        LazyMessageStream messageStream = check new (self, prefetch, idleTimeoutMillis);
+        return new (messageStream);
+    }
+
     # Mark a JMS message as received.
     # ```ballerina
     # check consumer->acknowledge(message);
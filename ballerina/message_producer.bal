@@ -16,14 +16,55 @@
 
 import ballerina/jballerina.java;
 
+# Defines the delivery modes of the messages sent by a JMS producer.
+public enum DeliveryMode {
+    # The message is persisted by the JMS provider, so that it is not lost if the provider fails
+    PERSISTENT,
+    # The message is not persisted by the JMS provider, which is cheaper but the message can be lost if the provider
+    # fails
+    NON_PERSISTENT
+}
+
+# Represents the quality of service of the messages sent by a JMS producer.
+#
+# + deliveryMode - The delivery mode of the messages
+# + priority - The priority of the messages, from 0 (lowest) to 9 (highest)
+# + timeToLiveMillis - The time (in milliseconds) for which the messages are retained by the JMS provider. Zero means
+#                      the messages never expire
+public type SendOptions record {|
+    DeliveryMode deliveryMode?;
+    int priority?;
+    int timeToLiveMillis?;
+|};
+
+# Message producer configurations. The send options are the defaults of the messages sent by the producer, which can
+# be overridden per send. If a send option is not set, the default of the JMS provider is used.
+#
+# + maxOutstandingSends - The maximum number of messages sent with `sendAsync`, which can be waiting for the
+#                         acknowledgement of the JMS provider at once. Once this limit is reached, `sendAsync` waits
+#                         until an outstanding send is completed
+# + deliveryDelayMillis - The minimum time (in milliseconds) after which the sent messages are delivered by the JMS
+#                         provider
+# + disableMessageId - If true, the JMS provider is hinted not to generate message IDs for the sent messages
+# + disableMessageTimestamp - If true, the JMS provider is hinted not to set timestamps for the sent messages
+public type ProducerOptions record {|
+    *SendOptions;
+    int maxOutstandingSends = 100;
+    int deliveryDelayMillis?;
+    boolean disableMessageId = false;
+    boolean disableMessageTimestamp = false;
+|};
+
 # JMS Message Producer client object to send messages to both queues and topics.
 public isolated client class MessageProducer {
     
-    isolated function init(Session session, Destination? destination = ()) returns Error? {
-        return self.externInit(session, destination);
+    isolated function init(Session session, Destination? destination = (), ProducerOptions options = {})
+            returns Error? {
+        return self.externInit(session, destination, options);
     }
 
-    isolated function externInit(Session session, Destination? destination) returns Error? = @java:Method {
+    isolated function externInit(Session session, Destination? destination, ProducerOptions options)
+            returns Error? = @java:Method {
         name: "init",
         'class: "io.ballerina.stdlib.java.jms.producer.Actions"
     } external;
@@ -31,15 +72,62 @@ public isolated client class MessageProducer {
     # Sends a message to the JMS provider.
     # ```ballerina
     # check producer->send(message);
+    # check producer->send(message, deliveryMode = jms:NON_PERSISTENT, priority = 9);
     # ```
     #
     # + message - Message to be sent to the JMS provider
+    # + options - Send options overriding the defaults of the producer
     # + return - A `jms:Error` if there is an error or else `()`
-    isolated remote function send(Message message) returns Error? = @java:Method {
+    isolated remote function send(Message message, *SendOptions options) returns Error? = @java:Method {
         name: "send",
         'class: "io.ballerina.stdlib.java.jms.producer.Actions"
     } external;
 
+    # Sends a message to the JMS provider without waiting for its acknowledgement. The returned future is completed
+    # once the message is acknowledged by the JMS provider, and the futures of the messages sent by a producer are
+    # completed in the order in which the messages were sent. When `maxOutstandingSends` messages of the producer are
+    # waiting for their acknowledgement, this waits until one of them is completed.
+    # ```ballerina
+    # future<jms:Error?> completion = check producer->sendAsync(message);
+    # check wait completion;
+    # ```
+    #
+    # + message - Message to be sent to the JMS provider
+    # + options - Send options overriding the defaults of the producer
+    # + return - A future which is completed with a `jms:Error` if the JMS provider fails to accept the message, or
+    # else a `jms:Error` if the message could not be sent
+    isolated remote function sendAsync(Message message, *SendOptions options) returns future<Error?>|Error {
+        final SendCompletion completion = check self.externSendAsync(message, options);
+        return start completion.get();
+    }
+
+    isolated function externSendAsync(Message message, SendOptions options)
+            returns SendCompletion|Error = @java:Method {
+        name: "sendAsync",
+        'class: "io.ballerina.stdlib.java.jms.producer.Actions"
+    } external;
+
+    # Sends a batch of messages to the JMS provider in a single call. On a `SESSION_TRANSACTED` session, the messages
+    # are committed once after all of them are sent, and the transaction is rolled back if any of them fails. The
+    # commit and the rollback apply to the whole transaction of the session, hence any messages sent or received
+    # earlier through the same session and not yet committed are committed or rolled back together with the batch.
+    # On other sessions, the messages are sent without waiting for the acknowledgement of each message, and this
+    # returns once all of them are completed, with an error for each message which could not be sent.
+    # ```ballerina
+    # jms:Error?[] results = check producer->sendBatch(messages);
+    # ```
+    #
+    # + messages - Messages to be sent to the JMS provider
+    # + destination - Destination to which the messages are sent. If this value is not set, the messages are sent to
+    #                 the destination of the producer
+    # + return - The result of each message, which is a `jms:Error` if the message could not be sent, or else a
+    # `jms:Error` if the batch could not be sent or committed
+    isolated remote function sendBatch(Message[] messages, Destination? destination = ())
+            returns Error?[]|Error = @java:Method {
+        name: "sendBatch",
+        'class: "io.ballerina.stdlib.java.jms.producer.Actions"
+    } external;
+
     # Sends a message to a given destination of the JMS provider.
     # ```ballerina
     # check producer->sendTo({ 'type: QUEUE, name: "test-queue" }, message);
@@ -47,12 +135,74 @@ public isolated client class MessageProducer {
     #
     # + destination - Destination used for the message sender
     # + message - Message to be sent to the JMS provider
+    # + options - Send options overriding the defaults of the producer
     # + return - A `jms:Error` if there is an error or else `()`
-    isolated remote function sendTo(Destination destination, Message message) returns Error? = @java:Method {
+    isolated remote function sendTo(Destination destination, Message message, *SendOptions options)
+            returns Error? = @java:Method {
         name: "sendTo",
         'class: "io.ballerina.stdlib.java.jms.producer.Actions"
     } external;
 
+    # Sends a bytes message, of which the content is written in chunks as they are read from a stream. The chunks are
+    # not collected into a single byte array before the message is sent.
+    # ```ballerina
+    # stream<byte[], io:Error?> chunks = check io:fileReadBlocksAsStream("document.pdf", 65536);
+    # check producer->sendChunked(chunks, {jmsType: "document"});
+    # ```
+    #
+    # + content - Stream of the content chunks
+    # + headers - Headers and properties of the message
+    # + return - A `jms:Error` if there is an error or else `()`
+    isolated remote function sendChunked(stream<byte[], error?> content, MessageHeaders headers = {}) returns Error? {
+        handle message = check self.externCreateBytesMessage(headers);
+        record {|byte[] value;|}|error? chunk = content.next();
+        while chunk is record {|byte[] value;|} {
+            check self.externWriteBytes(message, chunk.value);
+            chunk = content.next();
+        }
+        if chunk is error {
+            return error Error(string `Error occurred while reading the message content: ${chunk.message()}`, chunk);
+        }
+        return self.externSendBytesMessage(message);
+    }
+
+    isolated function externCreateBytesMessage(MessageHeaders headers) returns handle|Error = @java:Method {
+        name: "createBytesMessage",
+        'class: "io.ballerina.stdlib.java.jms.producer.Actions"
+    } external;
+
+    isolated function externWriteBytes(handle message, byte[] chunk) returns Error? = @java:Method {
+        name: "writeBytes",
+        'class: "io.ballerina.stdlib.java.jms.producer.Actions"
+    } external;
+
+    isolated function externSendBytesMessage(handle message) returns Error? = @java:Method {
+        name: "sendBytesMessage",
+        'class: "io.ballerina.stdlib.java.jms.producer.Actions"
+    } external;
+
+    # Sends a request message to a given destination of the JMS provider and waits for its reply. The replies to the
+    # requests sent over a connection are received on a single reply queue of the connection, and are matched with the
+    # requests using the correlation ID. The correlation ID of the request is generated if it is not set. If it is set,
+    # it must not be used by another request which is still waiting for a reply over the same connection.
+    # The request is sent with the delivery mode, priority and time to live of the producer, even if the producer has a
+    # destination of its own. Requests are not supported on transacted sessions, as they are only delivered once the
+    # transaction is committed.
+    # ```ballerina
+    # jms:Message reply = check producer->requestReply({ 'type: QUEUE, name: "test-queue" }, message, 5000);
+    # ```
+    #
+    # + destination - Destination to which the request is sent
+    # + message - Request message to be sent to the JMS provider
+    # + timeoutMillis - Maximum time to wait for the reply
+    # + return - The reply message, or else a `jms:Error` if there is an error or the reply is not received within the
+    # timeout
+    isolated remote function requestReply(Destination destination, Message message, int timeoutMillis = 10000)
+            returns Message|Error = @java:Method {
+        name: "requestReply",
+        'class: "io.ballerina.stdlib.java.jms.producer.Actions"
+    } external;
+
     # Closes the message producer.
     # ```ballerina
     # check producer->close();
@@ -62,3 +212,11 @@ public isolated client class MessageProducer {
         'class: "io.ballerina.stdlib.java.jms.producer.Actions"
     } external;
 };
+
+# Represents the completion of a message sent asynchronously.
+isolated class SendCompletion {
+
+    isolated function get() returns Error? = @java:Method {
+        'class: "io.ballerina.stdlib.java.jms.producer.SendCompletion"
+    } external;
+}
@@ -0,0 +1,74 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Iterates over the messages of a `jms:MessageConsumer`, which are prefetched into a bounded buffer in the background.
+isolated class MessageStream {
+
+    isolated function init(MessageConsumer consumer, int prefetch, int idleTimeoutMillis) returns Error? {
+        return externInitStream(self, consumer, prefetch, idleTimeoutMillis, false);
+    }
+
+    public isolated function next() returns record {|Message value;|}|Error? {
+        Message|Error? message = self.externNext();
+        if message is Message {
+            return {value: message};
+        }
+        return message;
+    }
+
+    isolated function externNext() returns Message|Error? = @java:Method {
+        name: "next",
+        'class: "io.ballerina.stdlib.java.jms.consumer.MessagePrefetcher"
+    } external;
+
+    public isolated function close() returns Error? = @java:Method {
+        'class: "io.ballerina.stdlib.java.jms.consumer.MessagePrefetcher"
+    } external;
+}
+
+# Iterates over the messages of a `jms:MessageConsumer` without converting them, which are prefetched into a bounded
+# buffer in the background.
+isolated class LazyMessageStream {
+
+    isolated function init(MessageConsumer consumer, int prefetch, int idleTimeoutMillis) returns Error? {
+        return externInitStream(self, consumer, prefetch, idleTimeoutMillis, true);
+    }
+
+    public isolated function next() returns record {|LazyMessage value;|}|Error? {
+        LazyMessage|Error? message = self.externNext();
+        if message is LazyMessage {
+            return {value: message};
+        }
+        return message;
+    }
+
+    isolated function externNext() returns LazyMessage|Error? = @java:Method {
+        name: "next",
+        'class: "io.ballerina.stdlib.java.jms.consumer.MessagePrefetcher"
+    } external;
+
+    public isolated function close() returns Error? = @java:Method {
+        'class: "io.ballerina.stdlib.java.jms.consumer.MessagePrefetcher"
+    } external;
+}
+
+isolated function externInitStream(MessageStream|LazyMessageStream 'stream, MessageConsumer consumer, int prefetch,
+        int idleTimeoutMillis, boolean lazy) returns Error? = @java:Method {
+    name: "init",
+    'class: "io.ballerina.stdlib.java.jms.consumer.MessagePrefetcher"
+} external;
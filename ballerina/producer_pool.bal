@@ -0,0 +1,89 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Producer pool configurations. The send options are the defaults of the messages sent through the pool, which can be
+# overridden per send.
+#
+# + poolSize - The maximum number of sessions, each with its own producer, opened by the pool. The sessions are opened
+#              on demand
+# + destination - The destination to which the messages are sent with `send`. If this value is not set, the messages
+#                 can only be sent with `sendTo`
+# + maxWaitMillis - The maximum time (in milliseconds) a send waits for a pooled producer when all of them are in use
+# + testOnLease - If true, an idle producer is checked to be still open before it is used, and is replaced with a new
+#                 one if it is not. This check does not contact the JMS provider, hence a session broken on the provider
+#                 side is only detected once a send through it fails. A producer of which a send fails is always
+#                 replaced, and so are all the producers once the JMS provider reports a failure of the connection
+public type ProducerPoolConfiguration record {|
+    *SendOptions;
+    int poolSize = 10;
+    Destination destination?;
+    int maxWaitMillis = 30000;
+    boolean testOnLease = true;
+|};
+
+# JMS producer pool client object, which sends messages using a pool of JMS sessions. A JMS session can only be used by
+# one thread at a time, hence each send leases a producer from the pool and returns it once the message is sent. This
+# allows messages to be sent concurrently from multiple strands.
+public isolated client class ProducerPool {
+
+    isolated function init(Connection connection, ProducerPoolConfiguration config) returns Error? {
+        return self.externInit(connection, config);
+    }
+
+    isolated function externInit(Connection connection, ProducerPoolConfiguration config)
+            returns Error? = @java:Method {
+        name: "init",
+        'class: "io.ballerina.stdlib.java.jms.producer.ProducerPool"
+    } external;
+
+    # Sends a message to the destination of the pool, using a pooled producer.
+    # ```ballerina
+    # check pool->send(message);
+    # ```
+    #
+    # + message - Message to be sent to the JMS provider
+    # + options - Send options overriding the defaults of the pool
+    # + return - A `jms:Error` if there is an error or else `()`
+    isolated remote function send(Message message, *SendOptions options) returns Error? = @java:Method {
+        'class: "io.ballerina.stdlib.java.jms.producer.ProducerPool"
+    } external;
+
+    # Sends a message to a given destination, using a pooled producer.
+    # ```ballerina
+    # check pool->sendTo({ 'type: QUEUE, name: "test-queue" }, message);
+    # ```
+    #
+    # + destination - Destination to which the message is sent
+    # + message - Message to be sent to the JMS provider
+    # + options - Send options overriding the defaults of the pool
+    # + return - A `jms:Error` if there is an error or else `()`
+    isolated remote function sendTo(Destination destination, Message message, *SendOptions options)
+            returns Error? = @java:Method {
+        'class: "io.ballerina.stdlib.java.jms.producer.ProducerPool"
+    } external;
+
+    # Closes the producer pool. The idle sessions are closed right away, and the sessions which are in use are closed
+    # once their sends complete. The sends waiting for a pooled producer fail right away.
+    # ```ballerina
+    # check pool->close();
+    # ```
+    # + return - A `jms:Error` if there is an error or else `()`
+    isolated remote function close() returns Error? = @java:Method {
+        'class: "io.ballerina.stdlib.java.jms.producer.ProducerPool"
+    } external;
+}
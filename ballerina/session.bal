@@ -51,9 +51,11 @@ public isolated client class Session {
     # ```
     #
     # + destination - The Destination to send to, or nil if this is a producer which does not have a specified destination
+    # + options - The relevant producer configurations
     # + return - Returns `jms:MessageProducer` or `jms:Error` if there is an error
-    public isolated function createProducer(Destination? destination = ()) returns MessageProducer|Error {
-        return new MessageProducer(self, destination);
+    public isolated function createProducer(Destination? destination = (), ProducerOptions options = {})
+            returns MessageProducer|Error {
+        return new MessageProducer(self, destination, options);
     }
 
     # Creates a MessageConsumer for the specified destination.
@@ -192,6 +192,215 @@ isolated function testReceiveNoWaitWithTopic() returns error? {
     }
 }
 
+@test:Config {
+    groups: ["consumer"]
+}
+isolated function testReceiveBatch() returns error? {
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION, {'type: QUEUE, name: "test-receive-batch"});
+    MessageConsumer consumer = check createConsumer(AUTO_ACK_SESSION, destination = {
+        'type: QUEUE,
+        name: "test-receive-batch"
+    });
+    foreach int i in 0 ..< 5 {
+        check producer->send({content: string `Message ${i}`});
+    }
+    runtime:sleep(1);
+    Message[] messages = check consumer->receiveBatch(3, 5000);
+    test:assertEquals(messages.length(), 3, "Invalid number of messages in the batch");
+    test:assertEquals(messages[0].content, "Message 0", "Invalid content received");
+    messages = check consumer->receiveBatch(3, 5000);
+    test:assertEquals(messages.length(), 2, "Invalid number of messages in the batch");
+    messages = check consumer->receiveBatch(3, 500);
+    test:assertEquals(messages.length(), 0, "Expected an empty batch");
+    check producer->close();
+    check consumer->close();
+}
+
+@test:Config {
+    groups: ["consumer"]
+}
+isolated function testReceiveBatchWithInvalidMaxMessages() returns error? {
+    MessageConsumer consumer = check createConsumer(AUTO_ACK_SESSION, destination = {
+        'type: QUEUE,
+        name: "test-receive-batch-invalid"
+    });
+    Message[]|Error messages = consumer->receiveBatch(0);
+    test:assertTrue(messages is Error, "Expected an error for an invalid batch size");
+    if messages is Error {
+        test:assertEquals(messages.message(), "maxMessages must be a positive integer.");
+    }
+    messages = consumer->receiveBatch(3, 0);
+    test:assertTrue(messages is Error, "Expected an error for a zero timeout");
+    if messages is Error {
+        test:assertEquals(messages.message(), "timeoutMillis must be a positive integer.");
+    }
+    check consumer->close();
+}
+
+@test:Config {
+    groups: ["consumer"]
+}
+isolated function testConsumerStream() returns error? {
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION, {'type: QUEUE, name: "test-consumer-stream"});
+    MessageConsumer consumer = check createConsumer(AUTO_ACK_SESSION, destination = {
+        'type: QUEUE,
+        name: "test-consumer-stream"
+    });
+    foreach int i in 0 ..< 5 {
+        check producer->send({content: string `Message ${i}`});
+    }
+    stream<Message, Error?> messages = check consumer.'stream(prefetch = 2, idleTimeoutMillis = 2000);
+    string[] contents = check from Message message in messages
+        select message.content.toString();
+    test:assertEquals(contents, ["Message 0", "Message 1", "Message 2", "Message 3", "Message 4"],
+            "Invalid messages received through the stream");
+    check producer->close();
+    check consumer->close();
+}
+
+@test:Config {
+    groups: ["consumer"]
+}
+isolated function testConsumerStreamCompletingWhileMessagesArrive() returns error? {
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION, {
+        'type: QUEUE,
+        name: "test-consumer-stream-idle"
+    });
+    MessageConsumer consumer = check createConsumer(AUTO_ACK_SESSION, destination = {
+        'type: QUEUE,
+        name: "test-consumer-stream-idle"
+    });
+    // send the messages at intervals close to the idle timeout, so that some of them arrive while a stream completes
+    future<error?> sender = start sendWithDelays(producer, 20);
+    int received = 0;
+    foreach int i in 0 ..< 40 {
+        stream<Message, Error?> messages = check consumer.'stream(prefetch = 1, idleTimeoutMillis = 100);
+        check from Message _ in messages
+            do {
+                received += 1;
+            };
+    }
+    check wait sender;
+    stream<Message, Error?> remaining = check consumer.'stream(prefetch = 1, idleTimeoutMillis = 1000);
+    check from Message _ in remaining
+        do {
+            received += 1;
+        };
+    test:assertEquals(received, 20, "Messages were dropped when the stream completed");
+    check producer->close();
+    check consumer->close();
+}
+
+isolated function sendWithDelays(MessageProducer producer, int count) returns error? {
+    foreach int i in 0 ..< count {
+        runtime:sleep(0.1);
+        check producer->send({content: string `Message ${i}`});
+    }
+}
+
+@test:Config {
+    groups: ["consumer"]
+}
+isolated function testConsumerStreamWithInvalidPrefetch() returns error? {
+    MessageConsumer consumer = check createConsumer(AUTO_ACK_SESSION, destination = {
+        'type: QUEUE,
+        name: "test-consumer-stream-invalid"
+    });
+    stream<Message, Error?>|Error messages = consumer.'stream(prefetch = 0);
+    test:assertTrue(messages is Error, "Expected an error for an invalid prefetch");
+    if messages is Error {
+        test:assertEquals(messages.message(), "prefetch must be a positive integer.");
+    }
+    check consumer->close();
+}
+
+@test:Config {
+    groups: ["consumer"]
+}
+isolated function testConsumerStreamCloseReturnsBufferedMessages() returns error? {
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION, {
+        'type: QUEUE,
+        name: "test-consumer-stream-close"
+    });
+    MessageConsumer consumer = check createConsumer(AUTO_ACK_SESSION, destination = {
+        'type: QUEUE,
+        name: "test-consumer-stream-close"
+    });
+    foreach int i in 0 ..< 5 {
+        check producer->send({content: string `Message ${i}`});
+    }
+    stream<Message, Error?> messages = check consumer.'stream(prefetch = 5);
+    record {|Message value;|}? first = check messages.next();
+    test:assertEquals(first?.value?.content, "Message 0", "Invalid message received through the stream");
+    // let the receiver buffer the remaining messages, which are already acknowledged
+    runtime:sleep(1);
+    Message|Error? whileStreaming = consumer->receiveNoWait();
+    test:assertTrue(whileStreaming is Error, "Expected an error for a receive while the stream is open");
+    if whileStreaming is Error {
+        test:assertEquals(whileStreaming.message(),
+                "Messages can not be received from the consumer while a message stream of it is open.");
+    }
+    check messages.close();
+
+    // the buffered messages are handed back to the consumer instead of being dropped
+    string[] contents = [];
+    Message? message = check consumer->receive(2000);
+    while message is Message {
+        contents.push(message.content.toString());
+        message = check consumer->receive(2000);
+    }
+    test:assertEquals(contents, ["Message 1", "Message 2", "Message 3", "Message 4"],
+            "Buffered messages were dropped when the stream was closed");
+    check producer->close();
+    check consumer->close();
+}
+
+@test:Config {
+    groups: ["consumer"]
+}
+isolated function testConsumerStreamOnClientAcknowledgedSession() returns error? {
+    Session session = check createSession(CLIENT_ACKNOWLEDGE);
+    MessageConsumer consumer = check createConsumer(session, destination = {
+        'type: QUEUE,
+        name: "test-consumer-stream-client-ack"
+    });
+    stream<Message, Error?>|Error messages = consumer.'stream();
+    test:assertTrue(messages is Error, "Expected an error for a stream of a client acknowledged session");
+    if messages is Error {
+        test:assertEquals(messages.message(),
+                "A message stream is only supported for consumers of AUTO_ACKNOWLEDGE and DUPS_OK_ACKNOWLEDGE sessions.");
+    }
+    check consumer->close();
+    check session->close();
+}
+
+@test:Config {
+    groups: ["consumer"]
+}
+isolated function testReceiveWithProjection() returns error? {
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION, {'type: QUEUE, name: "test-receive-projection"});
+    MessageConsumer consumer = check createConsumer(AUTO_ACK_SESSION, destination = {
+        'type: QUEUE,
+        name: "test-receive-projection"
+    }, projection = {headers: ["correlationId"], properties: ["tenant", "missing"]});
+    check producer->send({
+        content: "This is a sample message",
+        correlationId: "projection-1",
+        properties: {tenant: "wso2", region: "us-east"}
+    });
+    Message? response = check consumer->receive(5000);
+    test:assertTrue(response is Message, "Invalid message type received");
+    if response is Message {
+        test:assertEquals(response.content, "This is a sample message", "Invalid content received");
+        test:assertEquals(response.correlationId, "projection-1", "Invalid correlation ID received");
+        test:assertEquals(response.messageId, (), "Unexpected header included in the message");
+        test:assertEquals(response.destination, (), "Unexpected header included in the message");
+        test:assertEquals(response.properties, {tenant: "wso2"}, "Invalid properties received");
+    }
+    check producer->close();
+    check consumer->close();
+}
+
 @test:AfterGroups {
     value: ["consumer"]
 }
@@ -201,3 +410,52 @@ isolated function afterConsumerTests() returns error? {
     check topic7Producer->close();
     check topic7Consumer->close();
 }
+
+@test:Config {
+    groups: ["consumer", "lazyMessage"]
+}
+isolated function testReceiveLazy() returns error? {
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION, {'type: QUEUE, name: "test-receive-lazy"});
+    MessageConsumer consumer = check createConsumer(AUTO_ACK_SESSION, destination = {
+        'type: QUEUE,
+        name: "test-receive-lazy"
+    });
+    check producer->send({content: "Lazy message", properties: {route: "process"}});
+    LazyMessage? message = check consumer->receiveLazy(5000);
+    test:assertTrue(message is LazyMessage, "Message was not received");
+    if message is LazyMessage {
+        test:assertEquals(check message.property("route"), "process", "Invalid message property");
+        map<Property> properties = check message.properties();
+        test:assertTrue(properties.isReadOnly(), "Shared message properties are mutable");
+        test:assertEquals(check message.content(), "Lazy message", "Invalid message content");
+        Message converted = check message.toMessage();
+        map<Property> convertedProperties = converted.properties ?: {};
+        convertedProperties["route"] = "skip";
+        test:assertEquals(check message.property("route"), "process", "Converted message shares the properties");
+    }
+    LazyMessage? next = check consumer->receiveLazy(1000);
+    test:assertTrue(next is (), "Unexpected message received");
+    check consumer->close();
+    check producer->close();
+}
+
+@test:Config {
+    groups: ["consumer", "lazyMessage"]
+}
+isolated function testConsumerLazyStream() returns error? {
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION, {'type: QUEUE, name: "test-consumer-lazy-stream"});
+    MessageConsumer consumer = check createConsumer(AUTO_ACK_SESSION, destination = {
+        'type: QUEUE,
+        name: "test-consumer-lazy-stream"
+    });
+    foreach int i in 0 ..< 5 {
+        check producer->send({content: string `Message ${i}`, jmsType: i % 2 == 0 ? "even" : "odd"});
+    }
+    stream<LazyMessage, Error?> messages = check consumer.lazyStream(prefetch = 2, idleTimeoutMillis = 2000);
+    string[] received = check from LazyMessage message in messages
+        where (check message.jmsType()) == "even"
+        select check (check message.content()).ensureType();
+    test:assertEquals(received, ["Message 0", "Message 2", "Message 4"], "Invalid messages received");
+    check consumer->close();
+    check producer->close();
+}
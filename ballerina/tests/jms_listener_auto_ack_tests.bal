@@ -0,0 +1,173 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+isolated map<boolean> autoAckSvcProcessedMessages = {};
+isolated boolean autoAckSvcFailedOnce = false;
+
+@test:Config {
+    groups: ["messageListener", "listenerAutoAck"]
+}
+isolated function testTransactedServiceWithAutoAck() returns error? {
+    Service consumerSvc = @ServiceConfig {
+        sessionAckMode: SESSION_TRANSACTED,
+        queueName: "test-transacted-auto-ack",
+        autoAck: true,
+        ackBatchSize: 4,
+        ackIntervalMillis: 500
+    } service object {
+        isolated remote function onMessage(Message message) returns error? {
+            string content = check message.content.ensureType();
+            lock {
+                // fail a single message once, so that the uncommitted messages of the session are redelivered
+                if content == "Message 2" && !autoAckSvcFailedOnce {
+                    autoAckSvcFailedOnce = true;
+                    return error("Failed to process the message");
+                }
+            }
+            lock {
+                autoAckSvcProcessedMessages[content] = true;
+            }
+        }
+    };
+    check jmsMessageListener.attach(consumerSvc, "test-transacted-auto-ack-service");
+
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION, {'type: QUEUE, name: "test-transacted-auto-ack"});
+    foreach int i in 0 ..< 10 {
+        check producer->send({content: string `Message ${i}`});
+    }
+    runtime:sleep(5);
+    lock {
+        test:assertEquals(autoAckSvcProcessedMessages.length(), 10, "Invalid number of processed messages");
+    }
+    check jmsMessageListener.detach(consumerSvc);
+
+    // all the processed messages should have been committed, hence no message should be left in the queue
+    Session session = check createSession(AUTO_ACKNOWLEDGE);
+    MessageConsumer consumer = check createConsumer(session, destination = {'type: QUEUE, name: "test-transacted-auto-ack"});
+    Message? remaining = check consumer->receive(2000);
+    test:assertTrue(remaining is (), "Processed messages were not committed");
+    check consumer->close();
+    check session->close();
+    check producer->close();
+}
+
+isolated map<int> coalescedAckSvcDeliveries = {};
+isolated boolean coalescedAckSvcFailedOnce = false;
+
+@test:Config {
+    groups: ["messageListener", "listenerAutoAck"]
+}
+isolated function testAutoAckFailureWithinCoalescedBatch() returns error? {
+    Service consumerSvc = @ServiceConfig {
+        sessionAckMode: SESSION_TRANSACTED,
+        queueName: "test-coalesced-auto-ack",
+        maxConcurrency: 1,
+        autoAck: true,
+        ackBatchSize: 5,
+        ackIntervalMillis: 10000
+    } service object {
+        isolated remote function onMessage(Message message) returns error? {
+            string content = check message.content.ensureType();
+            lock {
+                coalescedAckSvcDeliveries[content] = (coalescedAckSvcDeliveries[content] ?: 0) + 1;
+            }
+            lock {
+                if content == "Message 3" && !coalescedAckSvcFailedOnce {
+                    coalescedAckSvcFailedOnce = true;
+                    return error("Failed to process the message");
+                }
+            }
+        }
+    };
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION, {'type: QUEUE, name: "test-coalesced-auto-ack"});
+    foreach int i in 0 ..< 5 {
+        check producer->send({content: string `Message ${i}`});
+    }
+    check jmsMessageListener.attach(consumerSvc, "test-coalesced-auto-ack-service");
+    runtime:sleep(5);
+    check jmsMessageListener.detach(consumerSvc);
+    lock {
+        // the failure rolls back the successfully processed messages pending to be committed together with it
+        test:assertEquals(coalescedAckSvcDeliveries["Message 0"], 2, "Coalesced message was not redelivered");
+        test:assertEquals(coalescedAckSvcDeliveries["Message 1"], 2, "Coalesced message was not redelivered");
+        test:assertEquals(coalescedAckSvcDeliveries["Message 2"], 2, "Coalesced message was not redelivered");
+        test:assertEquals(coalescedAckSvcDeliveries["Message 3"], 2, "Failed message was not redelivered");
+        test:assertEquals(coalescedAckSvcDeliveries.length(), 5, "Invalid number of processed messages");
+    }
+
+    // the redelivered messages should have been committed once all of them were processed successfully
+    Session session = check createSession(AUTO_ACKNOWLEDGE);
+    MessageConsumer consumer = check createConsumer(session, destination = {'type: QUEUE, name: "test-coalesced-auto-ack"});
+    Message? remaining = check consumer->receive(2000);
+    test:assertTrue(remaining is (), "Redelivered messages were not committed");
+    check consumer->close();
+    check session->close();
+    check producer->close();
+}
+
+isolated map<int> overlappingAckSvcDeliveries = {};
+isolated boolean overlappingAckSvcFailedOnce = false;
+
+@test:Config {
+    groups: ["messageListener", "listenerAutoAck"]
+}
+isolated function testAutoAckWithDeliveriesDuringCompletion() returns error? {
+    Service consumerSvc = @ServiceConfig {
+        sessionAckMode: CLIENT_ACKNOWLEDGE,
+        queueName: "test-overlapping-auto-ack",
+        maxConcurrency: 10,
+        autoAck: true
+    } service object {
+        isolated remote function onMessage(Message message) returns error? {
+            string content = check message.content.ensureType();
+            // keep messages in-flight, so that further messages are delivered while the session is being completed
+            runtime:sleep(0.05);
+            lock {
+                overlappingAckSvcDeliveries[content] = (overlappingAckSvcDeliveries[content] ?: 0) + 1;
+            }
+            lock {
+                if content == "Message 25" && !overlappingAckSvcFailedOnce {
+                    overlappingAckSvcFailedOnce = true;
+                    return error("Failed to process the message");
+                }
+            }
+        }
+    };
+    check jmsMessageListener.attach(consumerSvc, "test-overlapping-auto-ack-service");
+
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION, {'type: QUEUE, name: "test-overlapping-auto-ack"});
+    foreach int i in 0 ..< 50 {
+        check producer->send({content: string `Message ${i}`});
+    }
+    runtime:sleep(8);
+    check jmsMessageListener.detach(consumerSvc);
+    lock {
+        test:assertEquals(overlappingAckSvcDeliveries.length(), 50, "Invalid number of processed messages");
+        test:assertTrue((overlappingAckSvcDeliveries["Message 25"] ?: 0) >= 2, "Failed message was not redelivered");
+    }
+
+    // every message was acknowledged only after it was processed, hence none of them should be left in the queue
+    Session session = check createSession(AUTO_ACKNOWLEDGE);
+    MessageConsumer consumer = check createConsumer(session, destination = {'type: QUEUE, name: "test-overlapping-auto-ack"});
+    Message? remaining = check consumer->receive(2000);
+    test:assertTrue(remaining is (), "Processed messages were not acknowledged");
+    check consumer->close();
+    check session->close();
+    check producer->close();
+}
@@ -0,0 +1,89 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+isolated int[] batchSvcReceivedBatchSizes = [];
+
+@test:Config {
+    groups: ["messageListener", "listenerBatch"]
+}
+isolated function testBatchService() returns error? {
+    Service consumerSvc = @ServiceConfig {
+        queueName: "test-batch-service",
+        maxBatchSize: 5,
+        maxBatchWaitMillis: 1000
+    } service object {
+        isolated remote function onMessages(Message[] messages) returns error? {
+            lock {
+                batchSvcReceivedBatchSizes.push(messages.length());
+            }
+        }
+    };
+    check jmsMessageListener.attach(consumerSvc, "test-batch-service");
+
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION, {'type: QUEUE, name: "test-batch-service"});
+    foreach int i in 0 ..< 12 {
+        check producer->send({content: string `Message ${i}`});
+    }
+    runtime:sleep(5);
+    int[] receivedBatchSizes;
+    lock {
+        receivedBatchSizes = batchSvcReceivedBatchSizes.clone();
+    }
+    // two full batches are dispatched immediately and the remaining messages once the batch wait time elapses
+    test:assertEquals(receivedBatchSizes, [5, 5, 2], "Invalid message batches received");
+    check producer->close();
+}
+
+isolated int transactedBatchSvcAttempts = 0;
+isolated int transactedBatchSvcReceivedMsgCount = 0;
+
+@test:Config {
+    groups: ["messageListener", "listenerBatch"]
+}
+isolated function testTransactedBatchServiceRollback() returns error? {
+    Service consumerSvc = @ServiceConfig {
+        sessionAckMode: SESSION_TRANSACTED,
+        queueName: "test-transacted-batch-service",
+        maxBatchSize: 3
+    } service object {
+        isolated remote function onMessages(Message[] messages, Caller caller) returns error? {
+            lock {
+                transactedBatchSvcAttempts += 1;
+                // fail the first attempt, so that the whole batch is rolled back and redelivered
+                if transactedBatchSvcAttempts == 1 {
+                    return error("Failed to process the batch");
+                }
+            }
+            lock {
+                transactedBatchSvcReceivedMsgCount += messages.length();
+            }
+        }
+    };
+    check jmsMessageListener.attach(consumerSvc, "test-transacted-batch-service");
+
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION, {'type: QUEUE, name: "test-transacted-batch-service"});
+    foreach int i in 0 ..< 3 {
+        check producer->send({content: string `Message ${i}`});
+    }
+    runtime:sleep(5);
+    lock {
+        test:assertEquals(transactedBatchSvcReceivedMsgCount, 3, "Invalid number of received messages");
+    }
+    check producer->close();
+}
@@ -0,0 +1,308 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+isolated int maxConcurrencySvcInFlight = 0;
+isolated int maxConcurrencySvcPeakInFlight = 0;
+isolated int maxConcurrencySvcReceivedMsgCount = 0;
+
+@test:Config {
+    groups: ["messageListener", "listenerConcurrency"]
+}
+isolated function testServiceWithMaxConcurrency() returns error? {
+    Service consumerSvc = @ServiceConfig {
+        queueName: "test-max-concurrency",
+        maxConcurrency: 2
+    } service object {
+        isolated remote function onMessage(Message message) returns error? {
+            lock {
+                maxConcurrencySvcInFlight += 1;
+                if maxConcurrencySvcInFlight > maxConcurrencySvcPeakInFlight {
+                    maxConcurrencySvcPeakInFlight = maxConcurrencySvcInFlight;
+                }
+            }
+            runtime:sleep(0.5);
+            lock {
+                maxConcurrencySvcInFlight -= 1;
+                maxConcurrencySvcReceivedMsgCount += 1;
+            }
+        }
+    };
+    check jmsMessageListener.attach(consumerSvc, "test-max-concurrency-service");
+
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION, {'type: QUEUE, name: "test-max-concurrency"});
+    foreach int i in 0 ..< 10 {
+        check producer->send({content: string `Message ${i}`});
+    }
+    runtime:sleep(5);
+    lock {
+        test:assertEquals(maxConcurrencySvcReceivedMsgCount, 10, "Invalid number of received messages");
+    }
+    lock {
+        test:assertTrue(maxConcurrencySvcPeakInFlight <= 2, "Service exceeded the configured maximum concurrency");
+    }
+    check producer->close();
+}
+
+isolated int multiConsumerSvcReceivedMsgCount = 0;
+
+@test:Config {
+    groups: ["messageListener", "listenerConcurrency"]
+}
+isolated function testServiceWithMultipleConsumers() returns error? {
+    Service consumerSvc = @ServiceConfig {
+        queueName: "test-multiple-consumers",
+        consumerCount: 3
+    } service object {
+        isolated remote function onMessage(Message message) returns error? {
+            lock {
+                multiConsumerSvcReceivedMsgCount += 1;
+            }
+        }
+    };
+    check jmsMessageListener.attach(consumerSvc, "test-multiple-consumers-service");
+
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION, {'type: QUEUE, name: "test-multiple-consumers"});
+    foreach int i in 0 ..< 30 {
+        check producer->send({content: string `Message ${i}`});
+    }
+    runtime:sleep(5);
+    lock {
+        test:assertEquals(multiConsumerSvcReceivedMsgCount, 30, "Invalid number of received messages");
+    }
+    check jmsMessageListener.detach(consumerSvc);
+    check producer->close();
+}
+
+isolated int sharedSubscriptionSvcReceivedMsgCount = 0;
+
+@test:Config {
+    groups: ["messageListener", "listenerConcurrency"]
+}
+isolated function testSharedSubscriptionWithMultipleConsumers() returns error? {
+    Service consumerSvc = @ServiceConfig {
+        topicName: "test-shared-multiple-consumers",
+        consumerType: SHARED,
+        subscriberName: "test-shared-multiple-consumers-sub",
+        consumerCount: 3
+    } service object {
+        isolated remote function onMessage(Message message) returns error? {
+            lock {
+                sharedSubscriptionSvcReceivedMsgCount += 1;
+            }
+        }
+    };
+    check jmsMessageListener.attach(consumerSvc, "test-shared-multiple-consumers-service");
+
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION, {'type: TOPIC, name: "test-shared-multiple-consumers"});
+    foreach int i in 0 ..< 30 {
+        check producer->send({content: string `Message ${i}`});
+    }
+    runtime:sleep(5);
+    lock {
+        // each message in a shared subscription is delivered to only one of its consumers
+        test:assertEquals(sharedSubscriptionSvcReceivedMsgCount, 30, "Invalid number of received messages");
+    }
+    check jmsMessageListener.detach(consumerSvc);
+    check producer->close();
+}
+
+isolated map<int[]> orderedSvcReceivedSequences = {};
+
+@test:Config {
+    groups: ["messageListener", "listenerConcurrency"]
+}
+isolated function testServiceWithOrderingKey() returns error? {
+    Service consumerSvc = @ServiceConfig {
+        queueName: "test-ordering-key",
+        orderingKey: "JMSXGroupID"
+    } service object {
+        isolated remote function onMessage(Message message) returns error? {
+            map<Property> properties = message.properties ?: {};
+            string groupId = check properties["JMSXGroupID"].ensureType();
+            int sequence = check properties["sequence"].ensureType();
+            // the first message of each group takes longer to process, which must not let later messages overtake it
+            if sequence == 0 {
+                runtime:sleep(0.5);
+            }
+            lock {
+                int[] sequences = orderedSvcReceivedSequences[groupId] ?: [];
+                sequences.push(sequence);
+                orderedSvcReceivedSequences[groupId] = sequences;
+            }
+        }
+    };
+    check jmsMessageListener.attach(consumerSvc, "test-ordering-key-service");
+
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION, {'type: QUEUE, name: "test-ordering-key"});
+    foreach int i in 0 ..< 5 {
+        foreach string groupId in ["group-a", "group-b"] {
+            check producer->send({
+                content: string `Message ${i}`,
+                properties: {"JMSXGroupID": groupId, "sequence": i}
+            });
+        }
+    }
+    runtime:sleep(5);
+    map<int[]> receivedSequences;
+    lock {
+        receivedSequences = orderedSvcReceivedSequences.clone();
+    }
+    test:assertEquals(receivedSequences["group-a"], [0, 1, 2, 3, 4], "Invalid message order for group-a");
+    test:assertEquals(receivedSequences["group-b"], [0, 1, 2, 3, 4], "Invalid message order for group-b");
+    check producer->close();
+}
+
+isolated int pullModeSvcInFlight = 0;
+isolated int pullModeSvcPeakInFlight = 0;
+isolated int pullModeSvcReceivedMsgCount = 0;
+
+@test:Config {
+    groups: ["messageListener", "listenerConcurrency"]
+}
+isolated function testServiceWithPullConsumptionMode() returns error? {
+    Service consumerSvc = @ServiceConfig {
+        queueName: "test-pull-consumption-mode",
+        consumptionMode: PULL,
+        consumerCount: 2,
+        maxConcurrency: 3,
+        pollTimeoutMillis: 200
+    } service object {
+        isolated remote function onMessage(Message message) returns error? {
+            lock {
+                pullModeSvcInFlight += 1;
+                if pullModeSvcInFlight > pullModeSvcPeakInFlight {
+                    pullModeSvcPeakInFlight = pullModeSvcInFlight;
+                }
+            }
+            runtime:sleep(0.2);
+            lock {
+                pullModeSvcInFlight -= 1;
+                pullModeSvcReceivedMsgCount += 1;
+            }
+        }
+    };
+    check jmsMessageListener.attach(consumerSvc, "test-pull-consumption-mode-service");
+
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION, {'type: QUEUE, name: "test-pull-consumption-mode"});
+    foreach int i in 0 ..< 20 {
+        check producer->send({content: string `Message ${i}`});
+    }
+    runtime:sleep(5);
+    lock {
+        test:assertEquals(pullModeSvcReceivedMsgCount, 20, "Invalid number of received messages");
+    }
+    lock {
+        test:assertTrue(pullModeSvcPeakInFlight <= 3, "Service exceeded the configured maximum concurrency");
+    }
+    check jmsMessageListener.detach(consumerSvc);
+    check producer->close();
+}
+
+isolated int scalingSvcReceivedMsgCount = 0;
+
+@test:Config {
+    groups: ["messageListener", "listenerConcurrency"]
+}
+isolated function testServiceWithConsumerScaling() returns error? {
+    Service consumerSvc = @ServiceConfig {
+        queueName: "test-consumer-scaling",
+        consumerCount: 1,
+        maxConsumerCount: 4,
+        consumerIdleTimeoutMillis: 2000
+    } service object {
+        isolated remote function onMessage(Message message) returns error? {
+            runtime:sleep(0.1);
+            lock {
+                scalingSvcReceivedMsgCount += 1;
+            }
+        }
+    };
+    check jmsMessageListener.attach(consumerSvc, "test-consumer-scaling-service");
+
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION, {'type: QUEUE, name: "test-consumer-scaling"});
+    foreach int i in 0 ..< 100 {
+        check producer->send({content: string `Message ${i}`});
+    }
+    runtime:sleep(8);
+    lock {
+        // messages should not be lost or duplicated while the consumers are added and removed
+        test:assertEquals(scalingSvcReceivedMsgCount, 100, "Invalid number of received messages");
+    }
+    check jmsMessageListener.detach(consumerSvc);
+    check producer->close();
+}
+
+isolated int fixedPoolSvcReceivedMsgCount = 0;
+
+@test:Config {
+    groups: ["messageListener", "listenerConcurrency"]
+}
+isolated function testServiceWithFixedPoolDispatchExecutor() returns error? {
+    Service consumerSvc = @ServiceConfig {
+        queueName: "test-fixed-pool-dispatch",
+        dispatchExecutor: FIXED_POOL,
+        dispatchPoolSize: 2
+    } service object {
+        isolated remote function onMessage(Message message) returns error? {
+            lock {
+                fixedPoolSvcReceivedMsgCount += 1;
+            }
+        }
+    };
+    check jmsMessageListener.attach(consumerSvc, "test-fixed-pool-dispatch-service");
+
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION, {'type: QUEUE, name: "test-fixed-pool-dispatch"});
+    foreach int i in 0 ..< 10 {
+        check producer->send({content: string `Message ${i}`});
+    }
+    runtime:sleep(3);
+    lock {
+        test:assertEquals(fixedPoolSvcReceivedMsgCount, 10, "Invalid number of received messages");
+    }
+    check producer->close();
+}
+
+isolated int inlineSvcReceivedMsgCount = 0;
+
+@test:Config {
+    groups: ["messageListener", "listenerConcurrency"]
+}
+isolated function testServiceWithInlineDispatchExecutor() returns error? {
+    Service consumerSvc = @ServiceConfig {
+        queueName: "test-inline-dispatch",
+        dispatchExecutor: INLINE
+    } service object {
+        isolated remote function onMessage(Message message) returns error? {
+            lock {
+                inlineSvcReceivedMsgCount += 1;
+            }
+        }
+    };
+    check jmsMessageListener.attach(consumerSvc, "test-inline-dispatch-service");
+
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION, {'type: QUEUE, name: "test-inline-dispatch"});
+    foreach int i in 0 ..< 10 {
+        check producer->send({content: string `Message ${i}`});
+    }
+    runtime:sleep(3);
+    lock {
+        test:assertEquals(inlineSvcReceivedMsgCount, 10, "Invalid number of received messages");
+    }
+    check producer->close();
+}
@@ -0,0 +1,112 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+isolated string[] lazyMessageSvcReceivedContents = [];
+isolated int lazyMessageSvcSkippedMsgCount = 0;
+
+@test:Config {
+    groups: ["messageListener", "lazyMessage"]
+}
+isolated function testServiceWithLazyMessage() returns error? {
+    Service consumerSvc = @ServiceConfig {
+        queueName: "test-lazy-message"
+    } service object {
+        isolated remote function onMessage(LazyMessage message, Caller caller) returns error? {
+            Property? route = check message.property("route");
+            if route != "process" {
+                lock {
+                    lazyMessageSvcSkippedMsgCount += 1;
+                }
+                return;
+            }
+            string content = check (check message.content()).ensureType();
+            Message converted = check message.toMessage();
+            test:assertEquals(converted.content, content, "Invalid content in the converted message");
+            lock {
+                lazyMessageSvcReceivedContents.push(content);
+            }
+        }
+    };
+    check jmsMessageListener.attach(consumerSvc, "test-lazy-message-service");
+
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION, {'type: QUEUE, name: "test-lazy-message"});
+    check producer->send({content: "Message 1", properties: {route: "process"}});
+    check producer->send({content: "Message 2", properties: {route: "skip"}});
+    check producer->send({content: "Message 3", properties: {route: "process"}});
+    runtime:sleep(2);
+    lock {
+        test:assertEquals(lazyMessageSvcReceivedContents, ["Message 1", "Message 3"], "Invalid messages processed");
+    }
+    lock {
+        test:assertEquals(lazyMessageSvcSkippedMsgCount, 1, "Invalid number of skipped messages");
+    }
+    check producer->close();
+}
+
+isolated byte[][] chunkedContentSvcReceivedChunks = [];
+
+@test:Config {
+    groups: ["messageListener", "lazyMessage"]
+}
+isolated function testChunkedBytesContent() returns error? {
+    Service consumerSvc = @ServiceConfig {
+        queueName: "test-chunked-content"
+    } service object {
+        isolated remote function onMessage(LazyMessage message) returns error? {
+            stream<byte[], Error?> chunks = check message.contentChunks(4);
+            check from byte[] chunk in chunks
+                do {
+                    lock {
+                        chunkedContentSvcReceivedChunks.push(chunk.clone());
+                    }
+                };
+        }
+    };
+    check jmsMessageListener.attach(consumerSvc, "test-chunked-content-service");
+
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION, {'type: QUEUE, name: "test-chunked-content"});
+    byte[][] content = [[1, 2, 3], [4, 5, 6, 7, 8], [9, 10]];
+    check producer->sendChunked(content.toStream(), {jmsType: "document"});
+    runtime:sleep(2);
+    lock {
+        test:assertEquals(chunkedContentSvcReceivedChunks, [[1, 2, 3, 4], [5, 6, 7, 8], [9, 10]],
+                "Invalid content chunks received");
+    }
+    check producer->close();
+}
+
+@test:Config {
+    groups: ["lazyMessage"]
+}
+isolated function testSendChunkedWithErroneousStream() returns error? {
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION, {'type: QUEUE, name: "test-chunked-content-error"});
+    stream<byte[], error?> content = new (new ErroneousChunkStream());
+    Error? result = producer->sendChunked(content);
+    test:assertTrue(result is Error, "Expected an error for an erroneous content stream");
+    if result is Error {
+        test:assertEquals(result.message(), "Error occurred while reading the message content: Chunk unavailable");
+    }
+    check producer->close();
+}
+
+isolated class ErroneousChunkStream {
+    public isolated function next() returns record {|byte[] value;|}|error? {
+        return error("Chunk unavailable");
+    }
+}
@@ -0,0 +1,144 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+isolated int redeliverySvcAttempts = 0;
+
+@test:Config {
+    groups: ["messageListener", "listenerRedelivery"]
+}
+isolated function testServiceWithRedeliveryAndDeadLetter() returns error? {
+    Service consumerSvc = @ServiceConfig {
+        queueName: "test-redelivery",
+        redelivery: {
+            maxAttempts: 3,
+            initialDelayMillis: 100,
+            deadLetterDestination: {'type: QUEUE, name: "test-redelivery-dlq"}
+        }
+    } service object {
+        isolated remote function onMessage(Message message) returns error? {
+            lock {
+                redeliverySvcAttempts += 1;
+            }
+            return error("Failed to process the message");
+        }
+    };
+    check jmsMessageListener.attach(consumerSvc, "test-redelivery-service");
+
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION, {'type: QUEUE, name: "test-redelivery"});
+    check producer->send({content: "This is a poison message"});
+    runtime:sleep(3);
+    lock {
+        test:assertEquals(redeliverySvcAttempts, 3, "Invalid number of delivery attempts");
+    }
+
+    MessageConsumer dlqConsumer = check createConsumer(AUTO_ACK_SESSION, destination = {
+        'type: QUEUE,
+        name: "test-redelivery-dlq"
+    });
+    Message? deadLetter = check dlqConsumer->receive(5000);
+    test:assertTrue(deadLetter is Message, "Failed message was not forwarded to the dead-letter destination");
+    if deadLetter is Message {
+        test:assertEquals(deadLetter.content, "This is a poison message", "Invalid dead-letter message content");
+    }
+    check dlqConsumer->close();
+    check jmsMessageListener.detach(consumerSvc);
+    check producer->close();
+}
+
+isolated int recoveringSvcAttempts = 0;
+isolated int recoveringSvcProcessedMsgCount = 0;
+
+@test:Config {
+    groups: ["messageListener", "listenerRedelivery"]
+}
+isolated function testServiceRecoveringOnRedelivery() returns error? {
+    Service consumerSvc = @ServiceConfig {
+        queueName: "test-redelivery-recovery",
+        redelivery: {
+            maxAttempts: 5,
+            initialDelayMillis: 100
+        }
+    } service object {
+        isolated remote function onMessage(Message message) returns error? {
+            lock {
+                recoveringSvcAttempts += 1;
+                if recoveringSvcAttempts < 3 {
+                    return error("Failed to process the message");
+                }
+            }
+            lock {
+                recoveringSvcProcessedMsgCount += 1;
+            }
+        }
+    };
+    check jmsMessageListener.attach(consumerSvc, "test-redelivery-recovery-service");
+
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION, {'type: QUEUE, name: "test-redelivery-recovery"});
+    check producer->send({content: "This is a sample message"});
+    runtime:sleep(3);
+    lock {
+        test:assertEquals(recoveringSvcAttempts, 3, "Invalid number of delivery attempts");
+    }
+    lock {
+        test:assertEquals(recoveringSvcProcessedMsgCount, 1, "Message was not processed after redelivery");
+    }
+    check jmsMessageListener.detach(consumerSvc);
+    check producer->close();
+}
+
+isolated int waitingRedeliverySvcProcessedMsgCount = 0;
+
+@test:Config {
+    groups: ["messageListener", "listenerRedelivery"]
+}
+isolated function testServiceDispatchingWhileRedeliveryWaits() returns error? {
+    Service consumerSvc = @ServiceConfig {
+        queueName: "test-redelivery-waiting",
+        maxConcurrency: 1,
+        dispatchExecutor: INLINE,
+        redelivery: {
+            maxAttempts: 2,
+            initialDelayMillis: 3000,
+            jitter: 0
+        }
+    } service object {
+        isolated remote function onMessage(Message message) returns error? {
+            if message.content == "This is a poison message" {
+                return error("Failed to process the message");
+            }
+            lock {
+                waitingRedeliverySvcProcessedMsgCount += 1;
+            }
+        }
+    };
+    check jmsMessageListener.attach(consumerSvc, "test-redelivery-waiting-service");
+
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION, {'type: QUEUE, name: "test-redelivery-waiting"});
+    check producer->send({content: "This is a poison message"});
+    foreach int i in 0 ..< 3 {
+        check producer->send({content: string `Message ${i}`});
+    }
+    runtime:sleep(1);
+    lock {
+        // the failed message neither blocks the delivery thread nor holds the only dispatch slot during its backoff
+        test:assertEquals(waitingRedeliverySvcProcessedMsgCount, 3, "Messages were blocked by a waiting redelivery");
+    }
+    check jmsMessageListener.detach(consumerSvc);
+    check producer->close();
+}
@@ -391,6 +391,43 @@ isolated function testListenerImmediateStop() returns error? {
     check msgListener.immediateStop();
 }
 
+isolated int gracefulStopSvcProcessedMsgCount = 0;
+
+@test:Config {
+    groups: ["messageListener"]
+}
+isolated function testListenerGracefulStopWithInFlightMessages() returns error? {
+    Listener msgListener = check new (
+        initialContextFactory = "org.apache.activemq.jndi.ActiveMQInitialContextFactory",
+        providerUrl = "tcp://localhost:61616"
+    );
+    Service consumerSvc = @ServiceConfig {
+        queueName: "test-listener-graceful-stop",
+        gracefulStopTimeoutMillis: 10000
+    } service object {
+        isolated remote function onMessage(Message message) returns error? {
+            runtime:sleep(2);
+            lock {
+                gracefulStopSvcProcessedMsgCount += 1;
+            }
+        }
+    };
+    check msgListener.attach(consumerSvc, "test-graceful-stop-service");
+    check msgListener.'start();
+
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION, {'type: QUEUE, name: "test-listener-graceful-stop"});
+    foreach int i in 0 ..< 3 {
+        check producer->send({content: string `Message ${i}`});
+    }
+    runtime:sleep(1);
+    check msgListener.gracefulStop();
+    lock {
+        // the listener should wait for the messages which were being processed when it was stopped
+        test:assertEquals(gracefulStopSvcProcessedMsgCount, 3, "In-flight messages were not processed");
+    }
+    check producer->close();
+}
+
 @test:Config {
     groups: ["messageListener"]
 }
@@ -436,7 +473,7 @@ isolated function testDetachFailure() returns error? {
     if result is Error {
         test:assertEquals(
                 result.message(),
-                "Failed to detach a service from the listener: Could not find the native JMS session",
+                "Failed to detach a service from the listener: Could not find the native JMS consumers of the service",
                 "Invalid error message");
     }
 }
@@ -0,0 +1,157 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+type Order record {|
+    string id;
+    int quantity;
+|};
+
+type OrderMessage record {|
+    string messageId?;
+    string correlationId?;
+    map<Property> properties?;
+    Order content;
+|};
+
+type XmlMessage record {|
+    string messageId?;
+    xml content;
+|};
+
+isolated Order[] typedPayloadSvcReceivedOrders = [];
+isolated string[] typedPayloadSvcReceivedCorrelationIds = [];
+isolated string[] typedPayloadSvcReceivedXmlNames = [];
+isolated (string|byte[])[] typedPayloadSvcReceivedUnionContents = [];
+isolated int[] typedPayloadSvcReceivedQuantities = [];
+
+@test:Config {
+    groups: ["messageListener", "typedPayload"]
+}
+isolated function testServiceWithTypedRecordContent() returns error? {
+    Service consumerSvc = @ServiceConfig {
+        queueName: "test-typed-record-content"
+    } service object {
+        isolated remote function onMessage(OrderMessage message) returns error? {
+            lock {
+                typedPayloadSvcReceivedOrders.push(message.content.cloneReadOnly());
+            }
+            string? correlationId = message.correlationId;
+            if correlationId is string {
+                lock {
+                    typedPayloadSvcReceivedCorrelationIds.push(correlationId);
+                }
+            }
+        }
+    };
+    check jmsMessageListener.attach(consumerSvc, "test-typed-record-content-service");
+
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION,
+            {'type: QUEUE, name: "test-typed-record-content"});
+    check producer->send({content: string `{"id": "order-1", "quantity": 2}`, correlationId: "order-1"});
+    check producer->send({content: string `{"id": "order-2", "quantity": 5}`.toBytes()});
+    runtime:sleep(2);
+    lock {
+        test:assertEquals(typedPayloadSvcReceivedOrders, [{id: "order-1", quantity: 2}, {id: "order-2", quantity: 5}],
+                "Invalid orders received");
+    }
+    lock {
+        test:assertEquals(typedPayloadSvcReceivedCorrelationIds, ["order-1"], "Invalid correlation IDs received");
+    }
+    check producer->close();
+}
+
+@test:Config {
+    groups: ["messageListener", "typedPayload"]
+}
+isolated function testServiceWithTypedXmlContent() returns error? {
+    Service consumerSvc = @ServiceConfig {
+        queueName: "test-typed-xml-content"
+    } service object {
+        isolated remote function onMessage(XmlMessage message) returns error? {
+            string name = (message.content/<name>).data();
+            lock {
+                typedPayloadSvcReceivedXmlNames.push(name);
+            }
+        }
+    };
+    check jmsMessageListener.attach(consumerSvc, "test-typed-xml-content-service");
+
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION, {'type: QUEUE, name: "test-typed-xml-content"});
+    check producer->send({content: "<order><name>Book</name></order>"});
+    runtime:sleep(2);
+    lock {
+        test:assertEquals(typedPayloadSvcReceivedXmlNames, ["Book"], "Invalid XML content received");
+    }
+    check producer->close();
+}
+
+@test:Config {
+    groups: ["messageListener", "typedPayload"]
+}
+isolated function testServiceWithUnionContent() returns error? {
+    Service consumerSvc = @ServiceConfig {
+        queueName: "test-typed-union-content"
+    } service object {
+        isolated remote function onMessage(record {|string messageId?; string|byte[] content;|} message)
+                returns error? {
+            lock {
+                typedPayloadSvcReceivedUnionContents.push(message.content.cloneReadOnly());
+            }
+        }
+    };
+    check jmsMessageListener.attach(consumerSvc, "test-typed-union-content-service");
+
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION,
+            {'type: QUEUE, name: "test-typed-union-content"});
+    check producer->send({content: "Text content"});
+    check producer->send({content: "Bytes content".toBytes()});
+    runtime:sleep(2);
+    lock {
+        // each message is bound to the member of the union which suits its type
+        test:assertEquals(typedPayloadSvcReceivedUnionContents, ["Text content", "Bytes content".toBytes()],
+                "Invalid union contents received");
+    }
+    check producer->close();
+}
+
+@test:Config {
+    groups: ["messageListener", "typedPayload"]
+}
+isolated function testServiceWithAnonymousTypedRecord() returns error? {
+    Service consumerSvc = @ServiceConfig {
+        queueName: "test-typed-anonymous-record"
+    } service object {
+        isolated remote function onMessage(record {|Order content;|} message) returns error? {
+            lock {
+                typedPayloadSvcReceivedQuantities.push(message.content.quantity);
+            }
+        }
+    };
+    check jmsMessageListener.attach(consumerSvc, "test-typed-anonymous-record-service");
+
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION,
+            {'type: QUEUE, name: "test-typed-anonymous-record"});
+    check producer->send({content: string `{"id": "order-3", "quantity": 7}`});
+    runtime:sleep(2);
+    lock {
+        test:assertEquals(typedPayloadSvcReceivedQuantities, [7], "Invalid anonymous record content received");
+    }
+    check producer->close();
+}
@@ -138,7 +138,33 @@ isolated function testSvcMethodWithInvalidParams() returns error? {
     if result is Error {
         test:assertEquals(
                 result.message(),
-                "Failed to attach service to listener: onMessage method parameters must be of type 'jms:Message' or 'jms:Caller'.",
+                "Failed to attach service to listener: onMessage method parameters must be of type 'jms:Message', a subtype of 'jms:Message' with a typed 'content' field, 'jms:LazyMessage' or 'jms:Caller'.",
+                "Invalid error message received");
+    }
+}
+
+type InvalidHeaderTypeMessage record {|
+    int messageId?;
+    string content;
+|};
+
+@test:Config {
+    groups: ["listenerValidations"]
+}
+isolated function testSvcMethodWithInvalidTypedMessageHeader() returns error? {
+    Service svc = @ServiceConfig {
+        queueName: "test-svc-attach"
+    } service object {
+
+        remote function onMessage(InvalidHeaderTypeMessage message) returns error? {
+        }
+    };
+    Error? result = jmsMessageListener.attach(svc);
+    test:assertTrue(result is Error, "Service with a header of an invalid type was attached");
+    if result is Error {
+        test:assertEquals(
+                result.message(),
+                "Failed to attach service to listener: onMessage method parameters must be of type 'jms:Message', a subtype of 'jms:Message' with a typed 'content' field, 'jms:LazyMessage' or 'jms:Caller'.",
                 "Invalid error message received");
     }
 }
@@ -233,3 +259,196 @@ isolated function testSvcOnErrorWithAdditionalParameters() returns error? {
                 "Invalid error message received");
     }    
 }
+
+@test:Config {
+    groups: ["listenerValidations"]
+}
+isolated function testSvcWithInvalidMaxConcurrency() returns error? {
+    Service svc = @ServiceConfig {
+        queueName: "test-svc-attach",
+        maxConcurrency: 0
+    } service object {
+        remote function onMessage(Message message) returns error? {}
+    };
+    Error? result = jmsMessageListener.attach(svc);
+    test:assertTrue(result is Error);
+    if result is Error {
+        test:assertEquals(
+                result.message(),
+                "Failed to attach service to listener: maxConcurrency must be a positive integer.",
+                "Invalid error message received");
+    }
+}
+
+@test:Config {
+    groups: ["listenerValidations"]
+}
+isolated function testSvcWithMultipleConsumersForNonSharedTopic() returns error? {
+    Service svc = @ServiceConfig {
+        topicName: "test-svc-attach",
+        consumerCount: 2
+    } service object {
+        remote function onMessage(Message message) returns error? {}
+    };
+    Error? result = jmsMessageListener.attach(svc);
+    test:assertTrue(result is Error);
+    if result is Error {
+        test:assertEquals(
+                result.message(),
+                "Failed to attach service to listener: consumerCount greater than one is only supported for queues and shared topic subscriptions.",
+                "Invalid error message received");
+    }
+}
+
+@test:Config {
+    groups: ["listenerValidations"]
+}
+isolated function testSvcWithBothOnMessageAndOnMessages() returns error? {
+    Service svc = @ServiceConfig {
+        queueName: "test-svc-attach"
+    } service object {
+        remote function onMessage(Message message) returns error? {}
+
+        remote function onMessages(Message[] messages) returns error? {}
+    };
+    Error? result = jmsMessageListener.attach(svc);
+    test:assertTrue(result is Error);
+    if result is Error {
+        test:assertEquals(
+                result.message(),
+                "Failed to attach service to listener: JMS service cannot have both onMessage and onMessages methods.",
+                "Invalid error message received");
+    }
+}
+
+@test:Config {
+    groups: ["listenerValidations"]
+}
+isolated function testSvcWithInvalidOnMessagesParameter() returns error? {
+    Service svc = @ServiceConfig {
+        queueName: "test-svc-attach"
+    } service object {
+        remote function onMessages(Message message) returns error? {}
+    };
+    Error? result = jmsMessageListener.attach(svc);
+    test:assertTrue(result is Error);
+    if result is Error {
+        test:assertEquals(
+                result.message(),
+                "Failed to attach service to listener: onMessages method parameters must be of type 'jms:Message[]' or 'jms:Caller'.",
+                "Invalid error message received");
+    }
+}
+
+@test:Config {
+    groups: ["listenerValidations"]
+}
+isolated function testBatchSvcWithOnMessageOnlyConfigs() returns error? {
+    Service autoAckSvc = @ServiceConfig {
+        sessionAckMode: SESSION_TRANSACTED,
+        queueName: "test-svc-attach",
+        autoAck: true
+    } service object {
+        remote function onMessages(Message[] messages) returns error? {}
+    };
+    Error? result = jmsMessageListener.attach(autoAckSvc);
+    test:assertTrue(result is Error);
+    if result is Error {
+        test:assertEquals(
+                result.message(),
+                "Failed to attach service to listener: autoAck is only supported for services with onMessage method.",
+                "Invalid error message received");
+    }
+
+    Service orderedSvc = @ServiceConfig {
+        queueName: "test-svc-attach",
+        orderingKey: "JMSXGroupID"
+    } service object {
+        remote function onMessages(Message[] messages) returns error? {}
+    };
+    result = jmsMessageListener.attach(orderedSvc);
+    test:assertTrue(result is Error);
+    if result is Error {
+        test:assertEquals(
+                result.message(),
+                "Failed to attach service to listener: orderingKey is only supported for services with onMessage method.",
+                "Invalid error message received");
+    }
+
+    Service inlineSvc = @ServiceConfig {
+        queueName: "test-svc-attach",
+        dispatchExecutor: INLINE
+    } service object {
+        remote function onMessages(Message[] messages) returns error? {}
+    };
+    result = jmsMessageListener.attach(inlineSvc);
+    test:assertTrue(result is Error);
+    if result is Error {
+        test:assertEquals(
+                result.message(),
+                "Failed to attach service to listener: dispatchExecutor is only supported for services with onMessage method.",
+                "Invalid error message received");
+    }
+}
+
+@test:Config {
+    groups: ["listenerValidations"]
+}
+isolated function testSvcWithInvalidPollTimeout() returns error? {
+    Service svc = @ServiceConfig {
+        queueName: "test-svc-attach",
+        consumptionMode: PULL,
+        pollTimeoutMillis: 0
+    } service object {
+        remote function onMessage(Message message) returns error? {}
+    };
+    Error? result = jmsMessageListener.attach(svc);
+    test:assertTrue(result is Error);
+    if result is Error {
+        test:assertEquals(
+                result.message(),
+                "Failed to attach service to listener: pollTimeoutMillis must be a positive integer.",
+                "Invalid error message received");
+    }
+}
+
+@test:Config {
+    groups: ["listenerValidations"]
+}
+isolated function testSvcWithAutoAckForAutoAcknowledgeSession() returns error? {
+    Service svc = @ServiceConfig {
+        queueName: "test-svc-attach",
+        autoAck: true
+    } service object {
+        remote function onMessage(Message message) returns error? {}
+    };
+    Error? result = jmsMessageListener.attach(svc);
+    test:assertTrue(result is Error);
+    if result is Error {
+        test:assertEquals(
+                result.message(),
+                "Failed to attach service to listener: autoAck is only supported for SESSION_TRANSACTED and CLIENT_ACKNOWLEDGE sessions.",
+                "Invalid error message received");
+    }
+}
+
+@test:Config {
+    groups: ["listenerValidations"]
+}
+isolated function testSvcWithInvalidMaxConsumerCount() returns error? {
+    Service svc = @ServiceConfig {
+        queueName: "test-svc-attach",
+        consumerCount: 3,
+        maxConsumerCount: 2
+    } service object {
+        remote function onMessage(Message message) returns error? {}
+    };
+    Error? result = jmsMessageListener.attach(svc);
+    test:assertTrue(result is Error);
+    if result is Error {
+        test:assertEquals(
+                result.message(),
+                "Failed to attach service to listener: maxConsumerCount must be greater than or equal to consumerCount.",
+                "Invalid error message received");
+    }
+}
@@ -0,0 +1,181 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/test;
+
+@test:Config {
+    groups: ["producerPool"]
+}
+isolated function testProducerPoolWithConcurrentSends() returns error? {
+    Destination destination = {'type: QUEUE, name: "test-producer-pool"};
+    MessageConsumer consumer = check createConsumer(AUTO_ACK_SESSION, destination = destination);
+    final ProducerPool pool = check TEST_CONNECTION->createProducerPool(poolSize = 3, destination = destination);
+    future<Error?>[] sends = [];
+    foreach int i in 1 ... 20 {
+        sends.push(start pool->send({content: string `Message ${i}`}));
+    }
+    foreach future<Error?> send in sends {
+        check wait send;
+    }
+    string[] received = [];
+    foreach int i in 1 ... 20 {
+        Message? message = check consumer->receive(5000);
+        if message is Message {
+            received.push(check message.content.ensureType());
+        }
+    }
+    test:assertEquals(received.length(), 20, "Invalid number of received messages");
+    foreach int i in 1 ... 20 {
+        test:assertTrue(received.indexOf(string `Message ${i}`) !is (), string `Message ${i} was not received`);
+    }
+    check pool->close();
+    check consumer->close();
+}
+
+@test:Config {
+    groups: ["producerPool"]
+}
+isolated function testProducerPoolSendTo() returns error? {
+    Destination destination = {'type: QUEUE, name: "test-producer-pool-send-to"};
+    MessageConsumer consumer = check createConsumer(AUTO_ACK_SESSION, destination = destination);
+    ProducerPool pool = check TEST_CONNECTION->createProducerPool();
+    check pool->sendTo(destination, {content: "Pooled message"}, priority = 7);
+    Message? message = check consumer->receive(5000);
+    test:assertTrue(message is Message, "Message was not received");
+    if message is Message {
+        test:assertEquals(message.content, "Pooled message", "Invalid message content");
+        test:assertEquals(message.priority, 7, "Invalid message priority");
+    }
+    check pool->close();
+    check consumer->close();
+}
+
+@test:Config {
+    groups: ["producerPool"]
+}
+isolated function testProducerPoolWithInvalidPoolSize() returns error? {
+    ProducerPool|Error result = TEST_CONNECTION->createProducerPool(poolSize = 0);
+    test:assertTrue(result is Error, "Producer pool created with an invalid pool size");
+    if result is Error {
+        test:assertEquals(result.message(), "poolSize must be a positive integer.",
+                "Invalid error message for an invalid pool size");
+    }
+}
+
+@test:Config {
+    groups: ["producerPool"]
+}
+isolated function testClosedProducerPool() returns error? {
+    ProducerPool pool = check TEST_CONNECTION->createProducerPool(destination = {
+        'type: QUEUE,
+        name: "test-closed-producer-pool"
+    });
+    check pool->close();
+    Error? result = pool->send({content: "Message after close"});
+    test:assertTrue(result is Error, "Message sent through a closed producer pool");
+    if result is Error {
+        test:assertEquals(result.message(), "Producer pool is closed", "Invalid error message for a closed pool");
+    }
+}
+
+@test:Config {
+    groups: ["producerPool"]
+}
+isolated function testProducerPoolMaxWaitTimeout() returns error? {
+    Destination destination = {'type: QUEUE, name: "test-producer-pool-max-wait"};
+    MessageConsumer consumer = check createConsumer(AUTO_ACK_SESSION, destination = destination);
+    final ProducerPool pool = check TEST_CONNECTION->createProducerPool(poolSize = 1, maxWaitMillis = 0,
+            destination = destination);
+    future<Error?>[] sends = [];
+    foreach int i in 1 ... 50 {
+        sends.push(start pool->send({content: string `Message ${i}`}));
+    }
+    int timedOut = 0;
+    foreach future<Error?> send in sends {
+        Error? result = wait send;
+        if result is Error {
+            test:assertEquals(result.message(), "Pooled JMS producer was not available within 0 milliseconds",
+                    "Invalid error message for a send waiting for a pooled producer");
+            timedOut += 1;
+        }
+    }
+    test:assertTrue(timedOut > 0, "Concurrent sends did not wait for the only pooled producer");
+    int received = 0;
+    Message? message = check consumer->receive(2000);
+    while message is Message {
+        received += 1;
+        message = check consumer->receive(2000);
+    }
+    test:assertEquals(received, 50 - timedOut, "Invalid number of received messages");
+    check pool->close();
+    check consumer->close();
+}
+
+@test:Config {
+    groups: ["producerPool"]
+}
+isolated function testProducerPoolReplacesClosedProducerOnLease() returns error? {
+    Connection connection = check new (
+        initialContextFactory = "org.apache.activemq.jndi.ActiveMQInitialContextFactory",
+        providerUrl = "tcp://localhost:61616"
+    );
+    ProducerPool pool = check connection->createProducerPool(poolSize = 1, destination = {
+        'type: QUEUE,
+        name: "test-producer-pool-test-on-lease"
+    });
+    check pool->send({content: "Message before close"});
+    // closes the session of the idle pooled producer
+    check connection->close();
+    Error? result = pool->send({content: "Message after close"});
+    test:assertTrue(result is Error, "Message sent through a closed connection");
+    if result is Error {
+        // the closed producer is not used, but is replaced with a new one, which can not be opened either
+        test:assertTrue(result.message().startsWith("Error occurred while opening a pooled JMS producer"),
+                "Closed pooled producer was not replaced");
+    }
+    check pool->close();
+}
+
+@test:Config {
+    groups: ["producerPool"]
+}
+isolated function testProducerPoolDiscardsBrokenProducer() returns error? {
+    Connection connection = check new (
+        initialContextFactory = "org.apache.activemq.jndi.ActiveMQInitialContextFactory",
+        providerUrl = "tcp://localhost:61616"
+    );
+    ProducerPool pool = check connection->createProducerPool(poolSize = 1, testOnLease = false, destination = {
+        'type: QUEUE,
+        name: "test-producer-pool-broken-producer"
+    });
+    check pool->send({content: "Message before close"});
+    check connection->close();
+    // the idle producer is used since it is not tested, and is discarded once the send fails
+    Error? result = pool->send({content: "Message after close"});
+    test:assertTrue(result is Error, "Message sent through a closed connection");
+    if result is Error {
+        test:assertTrue(result.message().startsWith("Error occurred while sending a message to the JMS provider"),
+                "Idle pooled producer was not used");
+    }
+    result = pool->send({content: "Message after failure"});
+    test:assertTrue(result is Error, "Message sent through a closed connection");
+    if result is Error {
+        test:assertTrue(result.message().startsWith("Error occurred while opening a pooled JMS producer"),
+                "Broken pooled producer was not discarded");
+    }
+    check pool->close();
+}
@@ -95,3 +95,162 @@ isolated function testReplyToErrorForTopic() returns error? {
             "Invalid error message for invalid-destination error");
     }
 }
+
+@test:Config {
+    groups: ["producer"]
+}
+isolated function testSendToSameDestinationRepeatedly() returns error? {
+    Destination destination = {'type: QUEUE, name: "test-send-to-same-destination"};
+    MessageConsumer consumer = check createConsumer(AUTO_ACK_SESSION, destination = destination);
+    MessageProducer producer = check AUTO_ACK_SESSION.createProducer();
+    foreach int i in 1 ... 3 {
+        check producer->sendTo(destination, {content: string `Message ${i}`, replyTo: destination});
+    }
+    foreach int i in 1 ... 3 {
+        Message? message = check consumer->receive(5000);
+        test:assertTrue(message is Message, "Message was not received");
+        if message is Message {
+            test:assertEquals(message.content, string `Message ${i}`, "Invalid message content");
+            test:assertEquals(message.destination, destination, "Invalid message destination");
+            test:assertEquals(message.replyTo, destination, "Invalid reply destination");
+        }
+    }
+    check producer->close();
+    check consumer->close();
+}
+
+@test:Config {
+    groups: ["producer"]
+}
+isolated function testSendAsync() returns error? {
+    Destination destination = {'type: QUEUE, name: "test-send-async"};
+    MessageConsumer consumer = check createConsumer(AUTO_ACK_SESSION, destination = destination);
+    MessageProducer producer = check AUTO_ACK_SESSION.createProducer(destination, {maxOutstandingSends: 2});
+    future<Error?>[] completions = [];
+    foreach int i in 1 ... 5 {
+        completions.push(check producer->sendAsync({content: string `Message ${i}`}));
+    }
+    foreach future<Error?> completion in completions {
+        check wait completion;
+    }
+    foreach int i in 1 ... 5 {
+        Message? message = check consumer->receive(5000);
+        test:assertTrue(message is Message, "Message was not received");
+        if message is Message {
+            test:assertEquals(message.content, string `Message ${i}`, "Invalid message content");
+        }
+    }
+    check producer->close();
+    check consumer->close();
+}
+
+@test:Config {
+    groups: ["producer"]
+}
+isolated function testCreateProducerWithInvalidMaxOutstandingSends() returns error? {
+    MessageProducer|Error result = AUTO_ACK_SESSION.createProducer(options = {maxOutstandingSends: 0});
+    test:assertTrue(result is Error, "Producer created with an invalid maxOutstandingSends");
+    if result is Error {
+        test:assertEquals(result.message(), "maxOutstandingSends must be a positive integer.",
+                "Invalid error message for an invalid maxOutstandingSends");
+    }
+}
+
+@test:Config {
+    groups: ["producer"]
+}
+isolated function testSendBatch() returns error? {
+    Destination destination = {'type: QUEUE, name: "test-send-batch"};
+    MessageConsumer consumer = check createConsumer(AUTO_ACK_SESSION, destination = destination);
+    MessageProducer producer = check AUTO_ACK_SESSION.createProducer(destination);
+    Message[] messages = [];
+    foreach int i in 1 ... 10 {
+        messages.push({content: string `Message ${i}`});
+    }
+    Error?[] results = check producer->sendBatch(messages);
+    test:assertEquals(results.length(), 10, "Invalid number of batch send results");
+    foreach Error? result in results {
+        test:assertTrue(result is (), "Message in the batch was not sent");
+    }
+    foreach int i in 1 ... 10 {
+        Message? message = check consumer->receive(5000);
+        test:assertTrue(message is Message, "Message was not received");
+        if message is Message {
+            test:assertEquals(message.content, string `Message ${i}`, "Invalid message content");
+        }
+    }
+    check producer->close();
+    check consumer->close();
+}
+
+@test:Config {
+    groups: ["producer"]
+}
+isolated function testSendBatchWithFailedMessage() returns error? {
+    Destination destination = {'type: QUEUE, name: "test-send-batch-failure"};
+    MessageConsumer consumer = check createConsumer(AUTO_ACK_SESSION, destination = destination);
+    MessageProducer producer = check AUTO_ACK_SESSION.createProducer(destination);
+    // a reply destination without a name cannot be converted, hence only that message fails
+    Error?[] results = check producer->sendBatch([
+        {content: "Message 1"},
+        {content: "Message 2", replyTo: {'type: QUEUE}},
+        {content: "Message 3"}
+    ]);
+    test:assertEquals(results.length(), 3, "Invalid number of batch send results");
+    test:assertTrue(results[0] is (), "Message in the batch was not sent");
+    test:assertTrue(results[1] is Error, "Expected an error for the invalid message");
+    test:assertTrue(results[2] is (), "Message following a failed message was not sent");
+    foreach string content in ["Message 1", "Message 3"] {
+        Message? message = check consumer->receive(5000);
+        test:assertTrue(message is Message, "Message was not received");
+        if message is Message {
+            test:assertEquals(message.content, content, "Invalid message content");
+        }
+    }
+    check producer->close();
+    check consumer->close();
+}
+
+@test:Config {
+    groups: ["producer"]
+}
+isolated function testSendWithQosOptions() returns error? {
+    Destination destination = {'type: QUEUE, name: "test-send-with-qos-options"};
+    MessageConsumer consumer = check createConsumer(AUTO_ACK_SESSION, destination = destination);
+    MessageProducer producer = check AUTO_ACK_SESSION.createProducer(destination,
+            {deliveryMode: NON_PERSISTENT, priority: 2, disableMessageTimestamp: true});
+    check producer->send({content: "Producer defaults"});
+    check producer->send({content: "Send overrides"}, deliveryMode = PERSISTENT, priority = 8,
+            timeToLiveMillis = 60000);
+
+    Message? message = check consumer->receive(5000);
+    test:assertTrue(message is Message, "Message sent with the producer defaults was not received");
+    if message is Message {
+        test:assertEquals(message.deliveryMode, 1, "Invalid delivery mode for the producer defaults");
+        test:assertEquals(message.priority, 2, "Invalid priority for the producer defaults");
+        test:assertEquals(message.expiration, 0, "Invalid expiration for the producer defaults");
+    }
+    message = check consumer->receive(5000);
+    test:assertTrue(message is Message, "Message sent with the send overrides was not received");
+    if message is Message {
+        test:assertEquals(message.deliveryMode, 2, "Invalid delivery mode for the send overrides");
+        test:assertEquals(message.priority, 8, "Invalid priority for the send overrides");
+        test:assertTrue(message.expiration > 0, "Expiration is not set for the send overrides");
+    }
+    check producer->close();
+    check consumer->close();
+}
+
+@test:Config {
+    groups: ["producer"]
+}
+isolated function testSendWithInvalidPriority() returns error? {
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION, {'type: QUEUE, name: "test-send-invalid-priority"});
+    Error? result = producer->send({content: "Invalid priority"}, priority = 10);
+    test:assertTrue(result is Error, "Message sent with an invalid priority");
+    if result is Error {
+        test:assertEquals(result.message(), "priority must be between 0 and 9.",
+                "Invalid error message for an invalid priority");
+    }
+    check producer->close();
+}
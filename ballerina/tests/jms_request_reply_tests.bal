@@ -0,0 +1,137 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+@test:Config {
+    groups: ["requestReply"]
+}
+isolated function testRequestReply() returns error? {
+    Service replySvc = @ServiceConfig {
+        queueName: "test-request-reply"
+    } service object {
+        isolated remote function onMessage(Message message, Caller caller) returns error? {
+            check caller->reply(message, {content: string `Reply to ${check message.content.ensureType(string)}`});
+        }
+    };
+    check jmsMessageListener.attach(replySvc, "test-request-reply-service");
+
+    MessageProducer producer = check createProducerWithoutDestination(AUTO_ACK_SESSION);
+    foreach int i in 0 ..< 5 {
+        Message reply = check producer->requestReply(
+            {'type: QUEUE, name: "test-request-reply"}, {content: string `Request ${i}`}, 5000);
+        test:assertEquals(reply.content, string `Reply to Request ${i}`, "Invalid reply content");
+    }
+    check producer->close();
+}
+
+@test:Config {
+    groups: ["requestReply"]
+}
+isolated function testRequestReplyWithCorrelationId() returns error? {
+    Service replySvc = @ServiceConfig {
+        queueName: "test-request-reply-correlation-id"
+    } service object {
+        isolated remote function onMessage(Message message, Caller caller) returns error? {
+            check caller->reply(message, {content: "Reply"});
+        }
+    };
+    check jmsMessageListener.attach(replySvc, "test-request-reply-correlation-id-service");
+
+    MessageProducer producer = check createProducerWithoutDestination(AUTO_ACK_SESSION);
+    Message reply = check producer->requestReply({'type: QUEUE, name: "test-request-reply-correlation-id"},
+        {content: "Request", correlationId: "request-1"}, 5000);
+    test:assertEquals(reply.correlationId, "request-1", "Invalid reply correlation ID");
+    check producer->close();
+}
+
+@test:Config {
+    groups: ["requestReply"]
+}
+isolated function testRequestReplyTimeout() returns error? {
+    MessageProducer producer = check createProducerWithoutDestination(AUTO_ACK_SESSION);
+    Message|Error reply = producer->requestReply({'type: QUEUE, name: "test-request-reply-no-replier"},
+        {content: "Request"}, 500);
+    test:assertTrue(reply is Error, "Expected a timeout error");
+    if reply is Error {
+        test:assertEquals(reply.message(), "Reply was not received within 500 milliseconds");
+    }
+    check producer->close();
+}
+
+@test:Config {
+    groups: ["requestReply"]
+}
+isolated function testRequestReplyWithPendingCorrelationId() returns error? {
+    final MessageProducer producer = check createProducerWithoutDestination(AUTO_ACK_SESSION);
+    future<Message|Error> pending = start producer->requestReply(
+        {'type: QUEUE, name: "test-request-reply-pending-correlation-id"},
+        {content: "Request", correlationId: "pending-request"}, 3000);
+    runtime:sleep(1);
+    Message|Error reply = producer->requestReply({'type: QUEUE, name: "test-request-reply-pending-correlation-id"},
+        {content: "Request", correlationId: "pending-request"}, 3000);
+    test:assertTrue(reply is Error, "Request with a pending correlation ID was sent");
+    if reply is Error {
+        test:assertEquals(reply.message(),
+                "A request with the correlation ID pending-request is already waiting for a reply");
+    }
+    // the rejected request should not have evicted the pending one, which still times out waiting for its reply
+    Message|Error pendingReply = wait pending;
+    test:assertTrue(pendingReply is Error, "Expected a timeout error");
+    if pendingReply is Error {
+        test:assertEquals(pendingReply.message(), "Reply was not received within 3000 milliseconds");
+    }
+    check producer->close();
+}
+
+@test:Config {
+    groups: ["requestReply"]
+}
+isolated function testRequestReplyWithProducerDestination() returns error? {
+    Service replySvc = @ServiceConfig {
+        queueName: "test-request-reply-producer-destination"
+    } service object {
+        isolated remote function onMessage(Message message, Caller caller) returns error? {
+            check caller->reply(message, {content: "Reply"});
+        }
+    };
+    check jmsMessageListener.attach(replySvc, "test-request-reply-producer-destination-service");
+
+    MessageProducer producer = check createProducer(AUTO_ACK_SESSION,
+        {'type: QUEUE, name: "test-request-reply-other-destination"});
+    Message reply = check producer->requestReply({'type: QUEUE, name: "test-request-reply-producer-destination"},
+        {content: "Request"}, 5000);
+    test:assertEquals(reply.content, "Reply", "Invalid reply content");
+    check producer->close();
+}
+
+@test:Config {
+    groups: ["requestReply"]
+}
+isolated function testRequestReplyOnTransactedSession() returns error? {
+    Session session = check createSession(SESSION_TRANSACTED);
+    MessageProducer producer = check createProducerWithoutDestination(session);
+    Message|Error reply = producer->requestReply({'type: QUEUE, name: "test-request-reply-transacted"},
+        {content: "Request"}, 500);
+    test:assertTrue(reply is Error, "Request was sent on a transacted session");
+    if reply is Error {
+        test:assertEquals(reply.message(), "Request-reply is not supported on a transacted session, since the " +
+                "request is not delivered until the transaction is committed.");
+    }
+    check producer->close();
+    check session->close();
+}
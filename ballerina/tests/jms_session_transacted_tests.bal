@@ -438,3 +438,45 @@ isolated function afterSessionTransactedTests() returns error? {
     check transactedProducerSession->close();
     check transactedConsumerSession->close();
 }
+
+@test:Config {
+    groups: ["sessionTransacted"]
+}
+isolated function testSendBatchWithTransactedSession() returns error? {
+    Destination destination = {'type: QUEUE, name: "test-send-batch-transacted"};
+    MessageConsumer consumer = check createConsumer(AUTO_ACK_SESSION, destination = destination);
+    MessageProducer producer = check transactedProducerSession.createProducer();
+    Error?[] results = check producer->sendBatch([{content: "Message 1"}, {content: "Message 2"}], destination);
+    test:assertEquals(results, [(), ()], "Invalid batch send results");
+    foreach int i in 1 ... 2 {
+        Message? message = check consumer->receive(5000);
+        test:assertTrue(message is Message, "Committed message was not received");
+        if message is Message {
+            test:assertEquals(message.content, string `Message ${i}`, "Invalid message content");
+        }
+    }
+    check producer->close();
+    check consumer->close();
+}
+
+@test:Config {
+    groups: ["sessionTransacted"]
+}
+isolated function testSendBatchRollbackWithTransactedSession() returns error? {
+    Destination destination = {'type: QUEUE, name: "test-send-batch-transacted-rollback"};
+    MessageConsumer consumer = check createConsumer(AUTO_ACK_SESSION, destination = destination);
+    Session session = check createSession(SESSION_TRANSACTED);
+    MessageProducer producer = check session.createProducer(destination);
+    // a message sent earlier in the same transaction is rolled back together with the failed batch
+    check producer->send({content: "Message sent before the batch"});
+    Error?[]|Error results = producer->sendBatch([
+        {content: "Message 1"},
+        {content: "Message 2", replyTo: {'type: QUEUE}}
+    ]);
+    test:assertTrue(results is Error, "Expected an error for the failed batch");
+    Message? message = check consumer->receive(2000);
+    test:assertTrue(message is (), "Messages of the failed batch were not rolled back");
+    check producer->close();
+    check session->close();
+    check consumer->close();
+}
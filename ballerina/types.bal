@@ -17,8 +17,52 @@
 # The JMS service type.
 public type Service distinct service object {
     // remote function onMessage(jms:Message message, jms:Caller caller) returns error?;
+    // remote function onMessages(jms:Message[] messages, jms:Caller caller) returns error?;
 };
 
+# Defines the modes in which a JMS service consumes messages.
+public enum ConsumptionMode {
+    # Messages are pushed to the service by the JMS provider
+    PUSH,
+    # Messages are polled by the listener using a dedicated receive loop per consumer
+    PULL
+}
+
+# Defines the executors on which the messages are dispatched to a JMS service.
+public enum DispatchExecutor {
+    # Each message is dispatched on a new virtual thread. Suitable for services which mostly wait on I/O
+    VIRTUAL_THREAD_PER_MESSAGE,
+    # Messages are dispatched on a fixed size pool of platform threads. Suitable for CPU intensive services
+    FIXED_POOL,
+    # Messages are dispatched on the thread which delivered them, without a thread hand-off. Suitable for latency
+    # sensitive services, while the messages of a consumer are processed one at a time
+    INLINE
+}
+
+# Represents the policy used to redeliver the messages which a JMS service fails to process. A message is considered as
+# failed when the `onMessage` method returns an error or panics. Redeliveries done by the JMS provider are counted as
+# attempts as well, based on the `JMSXDeliveryCount` property or the redelivered flag of the message. A failed message
+# waits for its next attempt on a timer, without taking up a slot of `maxConcurrency`, while the messages sharing its
+# ordering key wait for it. When the listener is gracefully stopped, the waiting messages are dispatched right away.
+#
+# + maxAttempts - The maximum number of times a message is dispatched to the service, including the first delivery
+# + initialDelayMillis - The delay (in milliseconds) before the first redelivery of a failed message
+# + backoffMultiplier - The factor by which the delay is multiplied for each subsequent redelivery
+# + maxDelayMillis - The maximum delay (in milliseconds) between two redeliveries
+# + jitter - The fraction (between 0 and 1) by which each delay is randomly increased or decreased
+# + deadLetterDestination - The destination to which a message is forwarded once all the attempts fail. The message is
+#                           forwarded using a separate session before it is committed or acknowledged, hence it may
+#                           be forwarded more than once. If this value is not set, the message is handled as a failed
+#                           message
+public type RedeliveryPolicy record {|
+  int maxAttempts = 3;
+  int initialDelayMillis = 1000;
+  float backoffMultiplier = 2.0;
+  int maxDelayMillis = 60000;
+  float jitter = 0.2;
+  Destination deadLetterDestination?;
+|};
+
 # Represents configurations for a JMS queue subscription.
 #
 # + sessionAckMode - Configuration indicating how messages received by the session will be acknowledged
@@ -27,10 +71,72 @@ public type Service distinct service object {
 #                     If this value is not set that indicates that there is no message selector for the message consumer
 #                     For example, to only receive messages with a property `priority` set to `'high'`, use:
 #                     `"priority = 'high'"`. If this value is not set, all messages in the queue will be delivered.
+# + maxConcurrency - The maximum number of messages which can be dispatched to the service concurrently. Once this
+#                    limit is reached, message delivery from the JMS provider is paused until an in-flight message
+#                    is processed
+# + consumerCount - The number of JMS sessions, each with its own message consumer, to be opened for the service.
+#                   This is the minimum number of consumers when `maxConsumerCount` is set
+# + orderingKey - The message attribute used to preserve the processing order of related messages. Messages sharing
+#                 the same key value are dispatched to the service one after another, while messages with different
+#                 key values are dispatched concurrently. Use `JMSXGroupID` to order by message group,
+#                 `JMSCorrelationID` to order by the correlation ID, or else the name of any other message property.
+#                 If this value is not set, messages are dispatched without any ordering guarantees
+# + maxBatchSize - The maximum number of messages dispatched at once to the `onMessages` method of the service
+# + maxBatchWaitMillis - The maximum time (in milliseconds) to wait for a batch to be filled before dispatching it to
+#                        the `onMessages` method of the service
+# + consumptionMode - The mode in which messages are consumed from the JMS provider. In the `PUSH` mode messages are
+#                     delivered by the JMS provider, and in the `PULL` mode each consumer polls for messages in a
+#                     dedicated receive loop. Services with an `onMessages` method or with `autoAck` enabled always use
+#                     a receive loop, so that a batch is dispatched and the messages are completed on the thread which
+#                     consumes from the session
+# + pollTimeoutMillis - The maximum time (in milliseconds) a consumer waits for a message in a single poll, when
+#                       messages are consumed in the `PULL` mode
+# + gracefulStopTimeoutMillis - The maximum time (in milliseconds) to wait for the in-flight messages to be processed
+#                               by the service when the listener is gracefully stopped
+# + autoAck - If true, the messages are automatically committed or acknowledged once they are processed successfully by
+#             the service, and rolled back or recovered when the service returns an error. Only supported for
+#             `SESSION_TRANSACTED` and `CLIENT_ACKNOWLEDGE` sessions. The messages are consumed through a receive loop,
+#             which completes the session once the messages received from it are processed, hence a completion
+#             which becomes due while the loop waits for a message is done within `pollTimeoutMillis`
+# + ackBatchSize - The number of successfully processed messages to be committed or acknowledged together, when
+#                  `autoAck` is enabled. A failed message rolls back or recovers the successfully processed messages
+#                  pending to be completed together with it, hence those messages are redelivered as duplicates
+# + ackIntervalMillis - The maximum time (in milliseconds) a successfully processed message waits to be committed or
+#                       acknowledged, when `autoAck` is enabled
+# + maxConsumerCount - The maximum number of JMS sessions, each with its own message consumer, to be opened for the
+#                      service. When this is greater than `consumerCount`, consumers are added while the service is
+#                      saturated or the consumers keep receiving messages without waiting, and removed again after
+#                      being idle for `consumerIdleTimeoutMillis`, once their in-flight messages are processed.
+#                      If this value is not set, the service always uses `consumerCount` consumers
+# + consumerIdleTimeoutMillis - The time (in milliseconds) after which a consumer which did not receive any message is
+#                               removed, while more than `consumerCount` consumers are open for the service
+# + redelivery - The local redelivery policy for the messages which the `onMessage` method fails to process. If this
+#                value is not set, failed messages are not redelivered by the listener
+# + dispatchExecutor - The executor on which the messages are dispatched to the service
+# + dispatchPoolSize - The number of threads used to dispatch the messages, when the `FIXED_POOL` executor is used
+# + projection - The headers and the properties to be included in the received `jms:Message` records. If this value is
+#                not set, all the headers and the properties are included
 public type QueueConfig record {|
   AcknowledgementMode sessionAckMode = AUTO_ACKNOWLEDGE;
   string queueName;
   string messageSelector?;
+  int maxConcurrency = 100;
+  int consumerCount = 1;
+  string orderingKey?;
+  int maxBatchSize = 10;
+  int maxBatchWaitMillis = 1000;
+  ConsumptionMode consumptionMode = PUSH;
+  int pollTimeoutMillis = 1000;
+  int gracefulStopTimeoutMillis = 30000;
+  boolean autoAck = false;
+  int ackBatchSize = 1;
+  int ackIntervalMillis = 1000;
+  int maxConsumerCount?;
+  int consumerIdleTimeoutMillis = 60000;
+  RedeliveryPolicy redelivery?;
+  DispatchExecutor dispatchExecutor = VIRTUAL_THREAD_PER_MESSAGE;
+  int dispatchPoolSize = 10;
+  MessageProjection projection?;
 |};
 
 
@@ -46,6 +152,52 @@ public type QueueConfig record {|
 #             with the same client identifier, will not be added to the durable subscription.
 # + consumerType - The message consumer type
 # + subscriberName - the name used to identify the subscription
+# + maxConcurrency - The maximum number of messages which can be dispatched to the service concurrently. Once this
+#                    limit is reached, message delivery from the JMS provider is paused until an in-flight message
+#                    is processed
+# + consumerCount - The number of JMS sessions, each with its own message consumer, to be opened for the service.
+#                   A value greater than one is only supported for `SHARED` and `SHARED_DURABLE` subscriptions.
+#                   This is the minimum number of consumers when `maxConsumerCount` is set
+# + orderingKey - The message attribute used to preserve the processing order of related messages. Messages sharing
+#                 the same key value are dispatched to the service one after another, while messages with different
+#                 key values are dispatched concurrently. Use `JMSXGroupID` to order by message group,
+#                 `JMSCorrelationID` to order by the correlation ID, or else the name of any other message property.
+#                 If this value is not set, messages are dispatched without any ordering guarantees
+# + maxBatchSize - The maximum number of messages dispatched at once to the `onMessages` method of the service
+# + maxBatchWaitMillis - The maximum time (in milliseconds) to wait for a batch to be filled before dispatching it to
+#                        the `onMessages` method of the service
+# + consumptionMode - The mode in which messages are consumed from the JMS provider. In the `PUSH` mode messages are
+#                     delivered by the JMS provider, and in the `PULL` mode each consumer polls for messages in a
+#                     dedicated receive loop. Services with an `onMessages` method or with `autoAck` enabled always use
+#                     a receive loop, so that a batch is dispatched and the messages are completed on the thread which
+#                     consumes from the session
+# + pollTimeoutMillis - The maximum time (in milliseconds) a consumer waits for a message in a single poll, when
+#                       messages are consumed in the `PULL` mode
+# + gracefulStopTimeoutMillis - The maximum time (in milliseconds) to wait for the in-flight messages to be processed
+#                               by the service when the listener is gracefully stopped
+# + autoAck - If true, the messages are automatically committed or acknowledged once they are processed successfully by
+#             the service, and rolled back or recovered when the service returns an error. Only supported for
+#             `SESSION_TRANSACTED` and `CLIENT_ACKNOWLEDGE` sessions. The messages are consumed through a receive loop,
+#             which completes the session once the messages received from it are processed, hence a completion
+#             which becomes due while the loop waits for a message is done within `pollTimeoutMillis`
+# + ackBatchSize - The number of successfully processed messages to be committed or acknowledged together, when
+#                  `autoAck` is enabled. A failed message rolls back or recovers the successfully processed messages
+#                  pending to be completed together with it, hence those messages are redelivered as duplicates
+# + ackIntervalMillis - The maximum time (in milliseconds) a successfully processed message waits to be committed or
+#                       acknowledged, when `autoAck` is enabled
+# + maxConsumerCount - The maximum number of JMS sessions, each with its own message consumer, to be opened for the
+#                      service. When this is greater than `consumerCount`, consumers are added while the service is
+#                      saturated or the consumers keep receiving messages without waiting, and removed again after
+#                      being idle for `consumerIdleTimeoutMillis`, once their in-flight messages are processed.
+#                      If this value is not set, the service always uses `consumerCount` consumers
+# + consumerIdleTimeoutMillis - The time (in milliseconds) after which a consumer which did not receive any message is
+#                               removed, while more than `consumerCount` consumers are open for the service
+# + redelivery - The local redelivery policy for the messages which the `onMessage` method fails to process. If this
+#                value is not set, failed messages are not redelivered by the listener
+# + dispatchExecutor - The executor on which the messages are dispatched to the service
+# + dispatchPoolSize - The number of threads used to dispatch the messages, when the `FIXED_POOL` executor is used
+# + projection - The headers and the properties to be included in the received `jms:Message` records. If this value is
+#                not set, all the headers and the properties are included
 public type TopicConfig record {|
   AcknowledgementMode sessionAckMode = AUTO_ACKNOWLEDGE;
   string topicName;
@@ -53,6 +205,23 @@ public type TopicConfig record {|
   boolean noLocal = false;
   ConsumerType consumerType = DEFAULT;
   string subscriberName?;
+  int maxConcurrency = 100;
+  int consumerCount = 1;
+  string orderingKey?;
+  int maxBatchSize = 10;
+  int maxBatchWaitMillis = 1000;
+  ConsumptionMode consumptionMode = PUSH;
+  int pollTimeoutMillis = 1000;
+  int gracefulStopTimeoutMillis = 30000;
+  boolean autoAck = false;
+  int ackBatchSize = 1;
+  int ackIntervalMillis = 1000;
+  int maxConsumerCount?;
+  int consumerIdleTimeoutMillis = 60000;
+  RedeliveryPolicy redelivery?;
+  DispatchExecutor dispatchExecutor = VIRTUAL_THREAD_PER_MESSAGE;
+  int dispatchPoolSize = 10;
+  MessageProjection projection?;
 |};
 
 # The service configuration type for the `jms:Service`.
@@ -0,0 +1,161 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/lang.runtime;
+import ballerina/time;
+import ballerinax/activemq.driver as _;
+import ballerinax/java.jms;
+
+// Measures the throughput and the latency of a JMS service for each `jms:DispatchExecutor`, using a separate queue
+// for each executor.
+//
+// The throughput is measured by filling the queue with all the messages before the service is attached, and timing
+// only the consumption, from the start of the listener until the last message is processed. The sends are therefore
+// not part of the measured time.
+//
+// The latency is measured separately while the service is running, by sending messages one at a time at a fixed
+// interval, each carrying the time at which it was sent. A message is hence not delayed by the backlog of the queue.
+
+configurable jms:ConnectionConfiguration connectionConfig = ?;
+configurable int messageCount = 20000;
+configurable int latencySampleCount = 1000;
+// The interval (in seconds) between two messages sent to measure the latency
+configurable decimal latencySendInterval = 0.005;
+// The amount of CPU bound work done by the service for each message
+configurable int cpuWorkIterations = 1000;
+
+const VIRTUAL_THREAD_QUEUE = "benchmark-virtual-thread-per-message";
+const FIXED_POOL_QUEUE = "benchmark-fixed-pool";
+const INLINE_QUEUE = "benchmark-inline";
+const SENT_AT = "sentAt";
+
+isolated map<int> processedCounts = {};
+isolated map<decimal> lastProcessedAt = {};
+isolated map<decimal[]> latencies = {};
+
+isolated function createService(string queue) returns jms:Service {
+    if queue == VIRTUAL_THREAD_QUEUE {
+        return @jms:ServiceConfig {
+            queueName: VIRTUAL_THREAD_QUEUE,
+            dispatchExecutor: jms:VIRTUAL_THREAD_PER_MESSAGE
+        } service object {
+            isolated remote function onMessage(jms:Message message) returns error? {
+                check process(VIRTUAL_THREAD_QUEUE, message);
+            }
+        };
+    }
+    if queue == FIXED_POOL_QUEUE {
+        return @jms:ServiceConfig {
+            queueName: FIXED_POOL_QUEUE,
+            dispatchExecutor: jms:FIXED_POOL,
+            dispatchPoolSize: 8
+        } service object {
+            isolated remote function onMessage(jms:Message message) returns error? {
+                check process(FIXED_POOL_QUEUE, message);
+            }
+        };
+    }
+    return @jms:ServiceConfig {
+        queueName: INLINE_QUEUE,
+        dispatchExecutor: jms:INLINE
+    } service object {
+        isolated remote function onMessage(jms:Message message) returns error? {
+            check process(INLINE_QUEUE, message);
+        }
+    };
+}
+
+isolated function process(string queue, jms:Message message) returns error? {
+    int checksum = 0;
+    foreach int i in 0 ..< cpuWorkIterations {
+        checksum = (checksum * 31 + i) % 1000003;
+    }
+    map<jms:Property> properties = message.properties ?: {};
+    jms:Property? sentAt = properties[SENT_AT];
+    decimal processedAt = time:monotonicNow();
+    if sentAt is string {
+        decimal latency = processedAt - check decimal:fromString(sentAt);
+        lock {
+            decimal[] queueLatencies = latencies[queue] ?: [];
+            queueLatencies.push(latency);
+            latencies[queue] = queueLatencies;
+        }
+    }
+    lock {
+        processedCounts[queue] = (processedCounts[queue] ?: 0) + 1;
+        if processedAt > (lastProcessedAt[queue] ?: 0d) {
+            lastProcessedAt[queue] = processedAt;
+        }
+    }
+}
+
+isolated function processedCount(string queue) returns int {
+    lock {
+        return processedCounts[queue] ?: 0;
+    }
+}
+
+public function main() returns error? {
+    jms:Connection connection = check new (connectionConfig);
+    jms:Session session = check connection->createSession();
+    io:println("executor, messages, throughput (msg/s), p50 latency (ms), p99 latency (ms)");
+    foreach string queue in [VIRTUAL_THREAD_QUEUE, FIXED_POOL_QUEUE, INLINE_QUEUE] {
+        jms:MessageProducer producer = check session.createProducer({'type: jms:QUEUE, name: queue});
+        foreach int i in 0 ..< messageCount {
+            check producer->send({content: string `Message ${i}`});
+        }
+
+        jms:Listener benchmarkListener = check new (connectionConfig);
+        check benchmarkListener.attach(createService(queue));
+        decimal startedAt = time:monotonicNow();
+        check benchmarkListener.'start();
+        while processedCount(queue) < messageCount {
+            runtime:sleep(0.01);
+        }
+        decimal elapsed;
+        lock {
+            elapsed = (lastProcessedAt[queue] ?: startedAt) - startedAt;
+        }
+
+        foreach int i in 0 ..< latencySampleCount {
+            check producer->send({
+                content: string `Message ${i}`,
+                properties: {[SENT_AT]: time:monotonicNow().toString()}
+            });
+            runtime:sleep(latencySendInterval);
+        }
+        while processedCount(queue) < messageCount + latencySampleCount {
+            runtime:sleep(0.01);
+        }
+        check benchmarkListener.gracefulStop();
+
+        decimal[] sorted;
+        lock {
+            sorted = (latencies[queue] ?: []).clone().sort();
+        }
+        io:println(string `${queue}, ${messageCount}, ${<decimal>messageCount / elapsed}, ` +
+                string `${percentile(sorted, 50) * 1000}, ${percentile(sorted, 99) * 1000}`);
+        check producer->close();
+    }
+    check session->close();
+    check connection->close();
+}
+
+isolated function percentile(decimal[] sorted, int p) returns decimal {
+    int index = (sorted.length() * p / 100).min(sorted.length() - 1);
+    return sorted[index];
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.java.jms;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.utils.ValueUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.apache.activemq.command.ActiveMQMapMessage;
+import org.apache.activemq.command.ActiveMQTextMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Enumeration;
+import java.util.concurrent.TimeUnit;
+
+import javax.jms.JMSException;
+import javax.jms.MapMessage;
+import javax.jms.Message;
+
+/**
+ * Compares the conversion of the properties and the map content of a received message with the conversion used
+ * before the keys were cached and the values were mapped directly, which is reproduced by the baseline benchmarks.
+ * The allocated bytes per conversion are reported by the GC profiler as {@code gc.alloc.rate.norm}.
+ *
+ * @since 1.2.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class MessageConverterBenchmark {
+    private static final int ENTRY_COUNT = 10;
+    private static final MapType BASELINE_MAP_TYPE = TypeCreator.createMapType(TypeCreator.createUnionType(
+            PredefinedTypes.TYPE_BOOLEAN, PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_BYTE,
+            PredefinedTypes.TYPE_FLOAT, PredefinedTypes.TYPE_STRING));
+
+    private Message message;
+    private MapMessage mapMessage;
+
+    @Setup
+    public void setup() throws JMSException {
+        ActiveMQTextMessage textMessage = new ActiveMQTextMessage();
+        ActiveMQMapMessage activeMQMapMessage = new ActiveMQMapMessage();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            textMessage.setStringProperty("stringProperty" + i, "value" + i);
+            textMessage.setIntProperty("intProperty" + i, i);
+            activeMQMapMessage.setString("stringKey" + i, "value" + i);
+            activeMQMapMessage.setLong("longKey" + i, i);
+        }
+        message = textMessage;
+        mapMessage = activeMQMapMessage;
+    }
+
+    @Benchmark
+    public BMap<BString, Object> convertProperties() throws JMSException, BallerinaJmsException {
+        return MessageConverter.getMessageProperties(message);
+    }
+
+    @Benchmark
+    public BMap<BString, Object> convertPropertiesBaseline() throws JMSException {
+        BMap<BString, Object> properties = ValueCreator.createMapValue(BASELINE_MAP_TYPE);
+        Enumeration<String> propertyNames = message.getPropertyNames();
+        while (propertyNames.hasMoreElements()) {
+            String key = propertyNames.nextElement();
+            properties.put(StringUtils.fromString(key), getBaselineValue(message.getObjectProperty(key)));
+        }
+        return properties;
+    }
+
+    @Benchmark
+    public Object convertMapContent() throws JMSException, BallerinaJmsException {
+        return MessageConverter.getMessageContent(mapMessage);
+    }
+
+    @Benchmark
+    public BMap<BString, Object> convertMapContentBaseline() throws JMSException {
+        BMap<BString, Object> content = ValueCreator.createMapValue(BASELINE_MAP_TYPE);
+        Enumeration<String> mapNames = mapMessage.getMapNames();
+        while (mapNames.hasMoreElements()) {
+            String key = mapNames.nextElement();
+            content.put(StringUtils.fromString(key), getBaselineValue(mapMessage.getObject(key)));
+        }
+        return content;
+    }
+
+    private static Object getBaselineValue(Object value) {
+        if (value instanceof String stringValue) {
+            return StringUtils.fromString(stringValue);
+        }
+        return ValueUtils.convert(value, TypeUtils.getType(value));
+    }
+}
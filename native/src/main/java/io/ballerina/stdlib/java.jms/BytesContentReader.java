@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.java.jms;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BObject;
+
+import java.util.Arrays;
+
+import javax.jms.BytesMessage;
+import javax.jms.JMSException;
+import javax.jms.Message;
+
+import static io.ballerina.stdlib.java.jms.CommonUtils.createError;
+import static io.ballerina.stdlib.java.jms.Constants.JMS_ERROR;
+
+/**
+ * Reads the body of a JMS {@link BytesMessage} in fixed-size chunks, so that only one chunk of a large body is held
+ * as a Ballerina byte array at a time.
+ *
+ * @since 1.2.0
+ */
+public final class BytesContentReader {
+    private static final String NATIVE_READER = "reader";
+
+    private final BytesMessage message;
+    private final byte[] chunk;
+
+    private BytesContentReader(BytesMessage message, int chunkSize) {
+        this.message = message;
+        this.chunk = new byte[chunkSize];
+    }
+
+    /**
+     * Creates the reader of a Ballerina bytes content stream, which reads the body from the beginning.
+     *
+     * @param stream      Ballerina bytes content stream object
+     * @param lazyMessage Ballerina lazy message object
+     * @param chunkSize   The maximum number of bytes in a chunk
+     * @return A Ballerina `jms:Error` if the message is not a bytes message or the chunk size is invalid
+     */
+    public static Object init(BObject stream, BObject lazyMessage, long chunkSize) {
+        if (chunkSize <= 0 || chunkSize > Integer.MAX_VALUE) {
+            return createError(JMS_ERROR, "chunkSize must be a positive integer.");
+        }
+        Message message = LazyMessage.getJmsMessage(lazyMessage);
+        if (!(message instanceof BytesMessage bytesMessage)) {
+            return createError(JMS_ERROR, "Chunked content is only supported for bytes messages");
+        }
+        try {
+            bytesMessage.reset();
+        } catch (JMSException exception) {
+            return createError(JMS_ERROR, String.format("Error occurred while reading the message content: %s",
+                    exception.getMessage()), exception);
+        }
+        stream.addNativeData(NATIVE_READER, new BytesContentReader(bytesMessage, (int) chunkSize));
+        return null;
+    }
+
+    /**
+     * Reads the next chunk of the body.
+     *
+     * @param stream Ballerina bytes content stream object
+     * @return The next chunk, {@code null} when the whole body is read, or else a Ballerina `jms:Error` if there is
+     * an error
+     */
+    public static Object next(BObject stream) {
+        BytesContentReader reader = (BytesContentReader) stream.getNativeData(NATIVE_READER);
+        synchronized (reader) {
+            try {
+                int length = reader.message.readBytes(reader.chunk);
+                if (length < 0) {
+                    return null;
+                }
+                return ValueCreator.createArrayValue(Arrays.copyOf(reader.chunk, length));
+            } catch (JMSException exception) {
+                return createError(JMS_ERROR, String.format("Error occurred while reading the message content: %s",
+                        exception.getMessage()), exception);
+            }
+        }
+    }
+}
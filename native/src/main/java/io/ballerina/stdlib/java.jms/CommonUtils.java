@@ -52,12 +52,21 @@ public class CommonUtils {
     }
 
     public static BError createError(String errorType, String message, Throwable throwable) {
+        return createError(errorType, message, throwable, null);
+    }
+
+    public static BError createError(String errorType, String message, Throwable throwable,
+                                     BMap<BString, Object> details) {
         BError cause = null;
         if (throwable != null) {
             cause = ErrorCreator.createError(throwable);
         }
+        if (details != null) {
+            // the detail of an error is immutable
+            details.freezeDirect();
+        }
         return ErrorCreator.createError(
-                ModuleUtils.getModule(), errorType, StringUtils.fromString(message), cause, null);
+                ModuleUtils.getModule(), errorType, StringUtils.fromString(message), cause, details);
     }
 
     public static Optional<String> getOptionalStringProperty(BMap<BString, Object> config, BString fieldName) {
@@ -67,18 +76,39 @@ public class CommonUtils {
         return Optional.empty();
     }
 
-    @SuppressWarnings("unchecked")
     public static Destination getDestinationOrNull(Session session, Object destination)
             throws JMSException, BallerinaJmsException {
+        return getDestinationOrNull(session, null, destination);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Destination getDestinationOrNull(Session session, DestinationCache destinationCache,
+                                                   Object destination) throws JMSException, BallerinaJmsException {
         if (Objects.isNull(destination)) {
             return null;
         }
 
-        return getDestination(session, (BMap<BString, Object>) destination);
+        return getDestination(session, destinationCache, (BMap<BString, Object>) destination);
     }
 
     public static Destination getDestination(Session session, BMap<BString, Object> destinationConfig)
             throws BallerinaJmsException, JMSException {
+        return getDestination(session, null, destinationConfig);
+    }
+
+    /**
+     * Resolves a Ballerina `jms:Destination` record to a JMS destination of the given session.
+     *
+     * @param session           The JMS session
+     * @param destinationCache  The destination cache of the session, or {@code null} to not cache the destination
+     * @param destinationConfig The Ballerina destination record
+     * @return The JMS destination
+     * @throws BallerinaJmsException if the destination name is missing
+     * @throws JMSException if the JMS provider fails to create the destination
+     */
+    public static Destination getDestination(Session session, DestinationCache destinationCache,
+                                             BMap<BString, Object> destinationConfig)
+            throws BallerinaJmsException, JMSException {
         BString destinationType = destinationConfig.getStringValue(DESTINATION_TYPE);
         Optional<String> destinationNameOpt = getOptionalStringProperty(destinationConfig, DESTINATION_NAME);
         if (QUEUE.equals(destinationType) || TOPIC.equals(destinationType)) {
@@ -89,31 +119,48 @@ public class CommonUtils {
             }
         }
         if (QUEUE.equals(destinationType)) {
-            return session.createQueue(destinationNameOpt.get());
+            return Objects.isNull(destinationCache) ? session.createQueue(destinationNameOpt.get()) :
+                    destinationCache.getQueue(destinationNameOpt.get());
         } else if (TEMPORARY_QUEUE.equals(destinationType)) {
             return session.createTemporaryQueue();
         } else if (TOPIC.equals(destinationType)) {
-            return session.createTopic(destinationNameOpt.get());
+            return Objects.isNull(destinationCache) ? session.createTopic(destinationNameOpt.get()) :
+                    destinationCache.getTopic(destinationNameOpt.get());
         } else {
             return session.createTemporaryTopic();
         }
     }
 
     public static BMap<BString, Object> getJmsDestinationField(Destination destination) throws JMSException {
-        BMap<BString, Object> values = ValueCreator.createMapValue();
         if (destination instanceof TemporaryQueue) {
-            values.put(DESTINATION_TYPE, TEMPORARY_QUEUE);
+            return TemporaryDestinationRecords.TEMPORARY_QUEUE_RECORD;
         } else if (destination instanceof Queue) {
-            String queueName = ((Queue) destination).getQueueName();
-            values.put(DESTINATION_TYPE, QUEUE);
-            values.put(DESTINATION_NAME, StringUtils.fromString(queueName));
+            return DestinationCache.getQueueRecord(((Queue) destination).getQueueName(),
+                    queueName -> createDestinationRecord(QUEUE, queueName));
         } else if (destination instanceof TemporaryTopic) {
-            values.put(DESTINATION_TYPE, TEMPORARY_TOPIC);
-        } else {
-            String topicName = ((Topic) destination).getTopicName();
-            values.put(DESTINATION_TYPE, TOPIC);
-            values.put(DESTINATION_NAME, StringUtils.fromString(topicName));
+            return TemporaryDestinationRecords.TEMPORARY_TOPIC_RECORD;
+        }
+        return DestinationCache.getTopicRecord(((Topic) destination).getTopicName(),
+                topicName -> createDestinationRecord(TOPIC, topicName));
+    }
+
+    private static BMap<BString, Object> createDestinationRecord(BString destinationType, String destinationName) {
+        BMap<BString, Object> values = ValueCreator.createMapValue();
+        values.put(DESTINATION_TYPE, destinationType);
+        if (Objects.nonNull(destinationName)) {
+            values.put(DESTINATION_NAME, StringUtils.fromString(destinationName));
         }
         return ValueCreator.createReadonlyRecordValue(ModuleUtils.getModule(), "Destination", values);
     }
+
+    /**
+     * Holds the read-only records of the temporary destinations, which are created only after the module is
+     * initialized. A temporary destination record does not have a name, so the same record is shared by all of them.
+     */
+    private static final class TemporaryDestinationRecords {
+        private static final BMap<BString, Object> TEMPORARY_QUEUE_RECORD =
+                createDestinationRecord(TEMPORARY_QUEUE, null);
+        private static final BMap<BString, Object> TEMPORARY_TOPIC_RECORD =
+                createDestinationRecord(TEMPORARY_TOPIC, null);
+    }
 }
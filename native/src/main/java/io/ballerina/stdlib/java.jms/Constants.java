@@ -32,6 +32,8 @@ import javax.naming.Context;
 public class Constants {
     // Error names for JMS package
     public static final String JMS_ERROR = "Error";
+    public static final String BATCH_RECEIVE_ERROR = "BatchReceiveError";
+    public static final String BATCH_RECEIVE_ERROR_DETAIL = "BatchReceiveErrorDetail";
 
     public static final String CONFIG_FILE_PATH = "configFilePath";
 
@@ -104,9 +106,16 @@ public class Constants {
 
     // Native properties in respective ballerina objects
     public static final String NATIVE_CONNECTION = "connection";
+    public static final String BALLERINA_CONNECTION = "ballerinaConnection";
+    public static final String NATIVE_REPLY_ROUTER = "replyRouter";
     public static final String NATIVE_SESSION = "session";
+    public static final String NATIVE_DESTINATION_CACHE = "destinationCache";
     public static final String NATIVE_PRODUCER = "producer";
+    public static final String NATIVE_REQUEST_PRODUCER = "requestProducer";
     public static final String NATIVE_CONSUMER = "consumer";
+    public static final String NATIVE_SEND_TRACKER = "sendTracker";
+    public static final String NATIVE_SEND_RESULT = "sendResult";
+    public static final String NATIVE_PRODUCER_POOL = "producerPool";
 
     public static final String NATIVE_MESSAGE = "message";
 
@@ -114,6 +123,8 @@ public class Constants {
     public static final String MESSAGE_BAL_RECORD_NAME = "Message";
 
     public static final String CALLER = "Caller";
+    public static final String LAZY_MESSAGE = "LazyMessage";
+    public static final String SEND_COMPLETION = "SendCompletion";
 
     private Constants() {
     }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.java.jms;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.jms.JMSException;
+import javax.jms.Queue;
+import javax.jms.Session;
+import javax.jms.Topic;
+
+/**
+ * Caches the named destinations used to send and receive messages, in both directions.
+ * <ul>
+ *     <li>The JMS queues and topics are cached per session, so that sending to the same destination again does not
+ *     call {@link Session#createQueue(String)} or {@link Session#createTopic(String)}, which is a round trip to the
+ *     broker for some providers. The cache of a session is kept with the session, as the native data of the Ballerina
+ *     session and producer objects, or with a pooled session.</li>
+ *     <li>The read-only Ballerina `jms:Destination` records of the received messages are cached by destination name,
+ *     and shared across the sessions, since the records are immutable.</li>
+ * </ul>
+ * Temporary destinations are not cached, since each of them is a new destination. Once a cache is full, it is cleared
+ * before the next destination is added, so that the cache follows the destinations which are currently in use.
+ *
+ * @since 1.2.0
+ */
+public final class DestinationCache {
+    private static final int MAX_ENTRIES = 1024;
+    private static final Map<String, BMap<BString, Object>> QUEUE_RECORDS = new ConcurrentHashMap<>();
+    private static final Map<String, BMap<BString, Object>> TOPIC_RECORDS = new ConcurrentHashMap<>();
+
+    private final Session session;
+    private final Map<String, Queue> queues = new ConcurrentHashMap<>();
+    private final Map<String, Topic> topics = new ConcurrentHashMap<>();
+
+    public DestinationCache(Session session) {
+        this.session = session;
+    }
+
+    Queue getQueue(String queueName) throws JMSException {
+        Queue queue = queues.get(queueName);
+        if (Objects.isNull(queue)) {
+            queue = session.createQueue(queueName);
+            putBounded(queues, queueName, queue);
+        }
+        return queue;
+    }
+
+    Topic getTopic(String topicName) throws JMSException {
+        Topic topic = topics.get(topicName);
+        if (Objects.isNull(topic)) {
+            topic = session.createTopic(topicName);
+            putBounded(topics, topicName, topic);
+        }
+        return topic;
+    }
+
+    static BMap<BString, Object> getQueueRecord(String queueName,
+                                                Function<String, BMap<BString, Object>> recordCreator) {
+        return getRecord(QUEUE_RECORDS, queueName, recordCreator);
+    }
+
+    static BMap<BString, Object> getTopicRecord(String topicName,
+                                                Function<String, BMap<BString, Object>> recordCreator) {
+        return getRecord(TOPIC_RECORDS, topicName, recordCreator);
+    }
+
+    private static BMap<BString, Object> getRecord(Map<String, BMap<BString, Object>> records, String name,
+                                                   Function<String, BMap<BString, Object>> recordCreator) {
+        BMap<BString, Object> destinationRecord = records.get(name);
+        if (Objects.isNull(destinationRecord)) {
+            destinationRecord = recordCreator.apply(name);
+            putBounded(records, name, destinationRecord);
+        }
+        return destinationRecord;
+    }
+
+    private static <T> void putBounded(Map<String, T> cache, String name, T value) {
+        if (cache.size() >= MAX_ENTRIES) {
+            cache.clear();
+        }
+        cache.putIfAbsent(name, value);
+    }
+}
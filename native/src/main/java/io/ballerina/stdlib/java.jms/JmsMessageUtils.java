@@ -33,6 +33,7 @@ import javax.jms.Session;
 import static io.ballerina.stdlib.java.jms.CommonUtils.createError;
 import static io.ballerina.stdlib.java.jms.CommonUtils.getDestination;
 import static io.ballerina.stdlib.java.jms.Constants.JMS_ERROR;
+import static io.ballerina.stdlib.java.jms.Constants.NATIVE_DESTINATION_CACHE;
 import static io.ballerina.stdlib.java.jms.Constants.NATIVE_SESSION;
 
 /**
@@ -86,8 +87,9 @@ public class JmsMessageUtils {
      */
     public static Object setReplyTo(BObject session, Message message, BMap<BString, Object> replyTo) {
         Session nativeSession = (Session) session.getNativeData(NATIVE_SESSION);
+        DestinationCache destinationCache = (DestinationCache) session.getNativeData(NATIVE_DESTINATION_CACHE);
         try {
-            Destination replyToDestination = getDestination(nativeSession, replyTo);
+            Destination replyToDestination = getDestination(nativeSession, destinationCache, replyTo);
             message.setJMSReplyTo(replyToDestination);
         } catch (BallerinaJmsException exception) {
             return createError(JMS_ERROR, exception.getMessage(), exception);
@@ -26,8 +26,10 @@ import javax.jms.JMSException;
 import javax.jms.Session;
 
 import static io.ballerina.stdlib.java.jms.CommonUtils.createError;
+import static io.ballerina.stdlib.java.jms.Constants.BALLERINA_CONNECTION;
 import static io.ballerina.stdlib.java.jms.Constants.JMS_ERROR;
 import static io.ballerina.stdlib.java.jms.Constants.NATIVE_CONNECTION;
+import static io.ballerina.stdlib.java.jms.Constants.NATIVE_DESTINATION_CACHE;
 import static io.ballerina.stdlib.java.jms.Constants.NATIVE_SESSION;
 
 /**
@@ -52,6 +54,8 @@ public class JmsSession {
             boolean transacted = Session.SESSION_TRANSACTED == sessionAckMode;
             Session jmsSession = nativeConnection.createSession(transacted, sessionAckMode);
             session.addNativeData(NATIVE_SESSION, jmsSession);
+            session.addNativeData(NATIVE_DESTINATION_CACHE, new DestinationCache(jmsSession));
+            session.addNativeData(BALLERINA_CONNECTION, connection);
         } catch (JMSException e) {
             return createError(JMS_ERROR, String.format("Error while creating session: %s", e.getMessage()), e);
         }
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.java.jms;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A bounded cache of the Ballerina strings created for the property names and the map message keys of the received
+ * messages. These names usually repeat across the messages, so caching them avoids creating a new Ballerina string
+ * for each of them per message. Lookups do not lock, since the cache is shared by all the consumers. Once the cache is
+ * full, it is cleared before the next name is added, so that the cache follows the names which are currently in use,
+ * while messages with unique names can not grow it without a limit.
+ *
+ * @since 1.2.0
+ */
+final class KeyCache {
+    private static final int MAX_ENTRIES = 1024;
+    private static final Map<String, BString> KEYS = new ConcurrentHashMap<>();
+
+    private KeyCache() {
+    }
+
+    static BString get(String key) {
+        BString cached = KEYS.get(key);
+        if (Objects.nonNull(cached)) {
+            return cached;
+        }
+        // a concurrent caller may create the same Ballerina string meanwhile, either of them can be used
+        BString value = StringUtils.fromString(key);
+        if (KEYS.size() >= MAX_ENTRIES) {
+            KEYS.clear();
+        }
+        KEYS.putIfAbsent(key, value);
+        return value;
+    }
+}
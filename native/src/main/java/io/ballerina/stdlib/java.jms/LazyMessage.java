@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.java.jms;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BRefValue;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Objects;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+
+import static io.ballerina.stdlib.java.jms.CommonUtils.createError;
+import static io.ballerina.stdlib.java.jms.Constants.JMS_ERROR;
+import static io.ballerina.stdlib.java.jms.Constants.LAZY_MESSAGE;
+import static io.ballerina.stdlib.java.jms.Constants.NATIVE_MESSAGE;
+
+/**
+ * Native class for the Ballerina JMS lazy message. The headers and the properties of the message are converted when
+ * they are accessed, and the content is decoded only once, when it is first accessed. The converted properties and
+ * content are shared by all the accesses, hence they are read-only, while {@code toMessage} converts the message to
+ * a record of its own.
+ *
+ * @since 1.2.0
+ */
+public final class LazyMessage {
+    private final Message message;
+    private BMap<BString, Object> properties;
+    private Object content;
+    private BMap<BString, Object> ballerinaMessage;
+
+    private LazyMessage(Message message) {
+        this.message = message;
+    }
+
+    /**
+     * Creates a Ballerina lazy message for a JMS message, without converting any part of the message.
+     *
+     * @param message The JMS message
+     * @return The Ballerina lazy message object
+     */
+    public static BObject createLazyMessage(Message message) {
+        BObject lazyMessage = ValueCreator.createObjectValue(ModuleUtils.getModule(), LAZY_MESSAGE);
+        lazyMessage.addNativeData(NATIVE_MESSAGE, new LazyMessage(message));
+        return lazyMessage;
+    }
+
+    public static Object messageId(BObject lazyMessage) {
+        try {
+            return toBString(getMessage(lazyMessage).message.getJMSMessageID());
+        } catch (JMSException exception) {
+            return createError(JMS_ERROR, String.format("Error occurred while reading the message ID: %s",
+                    exception.getMessage()), exception);
+        }
+    }
+
+    public static Object correlationId(BObject lazyMessage) {
+        try {
+            return toBString(getMessage(lazyMessage).message.getJMSCorrelationID());
+        } catch (JMSException exception) {
+            return createError(JMS_ERROR, String.format("Error occurred while reading the correlation ID: %s",
+                    exception.getMessage()), exception);
+        }
+    }
+
+    public static Object jmsType(BObject lazyMessage) {
+        try {
+            return toBString(getMessage(lazyMessage).message.getJMSType());
+        } catch (JMSException exception) {
+            return createError(JMS_ERROR, String.format("Error occurred while reading the JMS type: %s",
+                    exception.getMessage()), exception);
+        }
+    }
+
+    public static Object property(BObject lazyMessage, BString name) {
+        Message message = getMessage(lazyMessage).message;
+        try {
+            if (!message.propertyExists(name.getValue())) {
+                return null;
+            }
+            return MessageConverter.getMapValue(message.getObjectProperty(name.getValue()));
+        } catch (BallerinaJmsException exception) {
+            return createError(JMS_ERROR, exception.getMessage(), exception);
+        } catch (JMSException exception) {
+            return createError(JMS_ERROR, String.format("Error occurred while reading the message property: %s",
+                    exception.getMessage()), exception);
+        }
+    }
+
+    public static Object properties(BObject lazyMessage) {
+        try {
+            return getMessage(lazyMessage).getProperties();
+        } catch (BallerinaJmsException exception) {
+            return createError(JMS_ERROR, exception.getMessage(), exception);
+        } catch (JMSException exception) {
+            return createError(JMS_ERROR, String.format("Error occurred while reading the message properties: %s",
+                    exception.getMessage()), exception);
+        }
+    }
+
+    public static Object content(BObject lazyMessage) {
+        try {
+            return getMessage(lazyMessage).getContent();
+        } catch (BallerinaJmsException exception) {
+            return createError(JMS_ERROR, exception.getMessage(), exception);
+        } catch (JMSException exception) {
+            return createError(JMS_ERROR, String.format("Error occurred while reading the message content: %s",
+                    exception.getMessage()), exception);
+        }
+    }
+
+    public static Object toMessage(BObject lazyMessage) {
+        try {
+            return getMessage(lazyMessage).getBallerinaMessage();
+        } catch (BallerinaJmsException exception) {
+            return createError(JMS_ERROR, exception.getMessage(), exception);
+        } catch (JMSException exception) {
+            return createError(JMS_ERROR, String.format("Error occurred while converting the message: %s",
+                    exception.getMessage()), exception);
+        }
+    }
+
+    static Message getJmsMessage(BObject lazyMessage) {
+        return getMessage(lazyMessage).message;
+    }
+
+    private static LazyMessage getMessage(BObject lazyMessage) {
+        return (LazyMessage) lazyMessage.getNativeData(NATIVE_MESSAGE);
+    }
+
+    private static BString toBString(String value) {
+        return Objects.isNull(value) ? null : StringUtils.fromString(value);
+    }
+
+    private synchronized BMap<BString, Object> getProperties() throws JMSException, BallerinaJmsException {
+        if (Objects.isNull(properties)) {
+            properties = MessageConverter.getMessageProperties(message);
+            properties.freezeDirect();
+        }
+        return properties;
+    }
+
+    private synchronized Object getContent() throws JMSException, BallerinaJmsException {
+        if (Objects.isNull(content)) {
+            content = MessageConverter.getMessageContent(message);
+            if (content instanceof BRefValue refValue) {
+                refValue.freezeDirect();
+            }
+        }
+        return content;
+    }
+
+    private synchronized BMap<BString, Object> getBallerinaMessage() throws JMSException, BallerinaJmsException {
+        if (Objects.isNull(ballerinaMessage)) {
+            // the message record is mutable, hence it does not share the read-only properties and content
+            ballerinaMessage = MessageConverter.convertToBMessage(message, null);
+        }
+        return ballerinaMessage;
+    }
+}
@@ -19,18 +19,43 @@
 package io.ballerina.stdlib.java.jms;
 
 import java.io.PrintStream;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.jms.ExceptionListener;
 import javax.jms.JMSException;
 
 /**
- * Logging exception listener class for JMS {@link javax.jms.Connection}.
+ * Logging exception listener class for JMS {@link javax.jms.Connection}. The components which depend on the
+ * connection, such as producer pools, can register a failure handler with it, so that a connection has a single
+ * listener regardless of how many of them are created and closed.
  */
 public class LoggingExceptionListener implements ExceptionListener {
     private static final PrintStream ERR_OUT = System.err;
 
+    private final Set<Runnable> failureHandlers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Registers a handler which is run whenever the JMS provider reports a failure of the connection.
+     *
+     * @param failureHandler The handler to be run
+     */
+    public void addFailureHandler(Runnable failureHandler) {
+        failureHandlers.add(failureHandler);
+    }
+
+    /**
+     * Removes a handler registered with {@link #addFailureHandler(Runnable)}.
+     *
+     * @param failureHandler The handler to be removed
+     */
+    public void removeFailureHandler(Runnable failureHandler) {
+        failureHandlers.remove(failureHandler);
+    }
+
     @Override
     public void onException(JMSException connectionException) {
+        failureHandlers.forEach(Runnable::run);
         ERR_OUT.println("Connection exception received from the JMS provider: " + connectionException.getMessage());
         connectionException.printStackTrace();
     }
@@ -23,18 +23,17 @@ import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.MapType;
 import io.ballerina.runtime.api.types.PredefinedTypes;
-import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.UnionType;
 import io.ballerina.runtime.api.utils.StringUtils;
-import io.ballerina.runtime.api.utils.TypeUtils;
-import io.ballerina.runtime.api.utils.ValueUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 
 import java.util.Enumeration;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import javax.jms.BytesMessage;
 import javax.jms.Destination;
@@ -65,6 +64,8 @@ public final class MessageConverter {
     private static final BString PRIORITY = StringUtils.fromString("priority");
     private static final BString PROPERTIES = StringUtils.fromString("properties");
     private static final BString CONTENT = StringUtils.fromString("content");
+    // the maximum length of a Java array which can be allocated in most JVMs
+    private static final long MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
     private static final UnionType MSG_PROPERTY_TYPE = TypeCreator.createUnionType(
             PredefinedTypes.TYPE_BOOLEAN, PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_BYTE,
             PredefinedTypes.TYPE_FLOAT, PredefinedTypes.TYPE_STRING);
@@ -81,39 +82,67 @@ public final class MessageConverter {
 
     public static Message convertFromBMessage(Session session, BMap<BString, Object> bMessage)
             throws BallerinaJmsException, JMSException {
+        return convertFromBMessage(session, null, bMessage);
+    }
+
+    public static Message convertFromBMessage(Session session, DestinationCache destinationCache,
+                                              BMap<BString, Object> bMessage)
+            throws BallerinaJmsException, JMSException {
         Object content = bMessage.get(CONTENT);
         Message message = getJmsMessage(session, content);
-        if (bMessage.containsKey(CORRELATION_ID)) {
-            BString correlationId = bMessage.getStringValue(CORRELATION_ID);
-            message.setJMSCorrelationID(correlationId.getValue());
-        }
-        if (bMessage.containsKey(REPLY_TO)) {
-            BMap<BString, Object> replyTo = (BMap<BString, Object>) bMessage.getMapValue(REPLY_TO);
-            Destination replyDestination = CommonUtils.getDestination(session, replyTo);
-            message.setJMSReplyTo(replyDestination);
-        }
-        if (bMessage.containsKey(JMS_TYPE)) {
-            BString jmsType = bMessage.getStringValue(JMS_TYPE);
-            message.setJMSType(jmsType.getValue());
-        }
-        if (bMessage.containsKey(PROPERTIES)) {
-            BMap<BString, Object> properties = (BMap<BString, Object>) bMessage.getMapValue(PROPERTIES);
-            for (BString key: properties.getKeys()) {
-                Object value = properties.get(key);
-                if (value instanceof Long longValue) {
-                    message.setLongProperty(key.getValue(), longValue);
-                } else if (value instanceof Boolean booleanValue) {
-                    message.setBooleanProperty(key.getValue(), booleanValue);
-                } else if (value instanceof Byte byteValue) {
-                    message.setByteProperty(key.getValue(), byteValue);
-                } else if (value instanceof Double doubleValue) {
-                    message.setDoubleProperty(key.getValue(), doubleValue);
-                } else if (value instanceof BString stringValue) {
-                    message.setStringProperty(key.getValue(), stringValue.getValue());
+        setMessageHeaders(session, destinationCache, message, bMessage);
+        return message;
+    }
+
+    /**
+     * Sets the correlation ID, the reply destination, the JMS type and the properties of a Ballerina message or
+     * message headers record to a JMS message.
+     *
+     * @param session          The JMS session
+     * @param destinationCache The destination cache of the session, or {@code null} to not cache the reply destination
+     * @param message          The JMS message
+     * @param bMessage         The Ballerina message or message headers record
+     * @throws BallerinaJmsException if the reply destination is invalid
+     * @throws JMSException if an error occurs while setting the headers
+     */
+    @SuppressWarnings("unchecked")
+    public static void setMessageHeaders(Session session, DestinationCache destinationCache, Message message,
+                                         BMap<BString, Object> bMessage) throws BallerinaJmsException, JMSException {
+        // the record fields are visited in a single pass, instead of looking up each of the optional fields
+        for (Map.Entry<BString, Object> field : bMessage.entrySet()) {
+            Object value = field.getValue();
+            switch (field.getKey().getValue()) {
+                case "correlationId" -> message.setJMSCorrelationID(((BString) value).getValue());
+                case "replyTo" -> {
+                    Destination replyDestination = CommonUtils.getDestination(session, destinationCache,
+                            (BMap<BString, Object>) value);
+                    message.setJMSReplyTo(replyDestination);
+                }
+                case "jmsType" -> message.setJMSType(((BString) value).getValue());
+                case "properties" -> setMessageProperties(message, (BMap<BString, Object>) value);
+                default -> {
+                    // the other headers are set by the JMS provider when the message is sent
                 }
             }
         }
-        return message;
+    }
+
+    private static void setMessageProperties(Message message, BMap<BString, Object> properties) throws JMSException {
+        for (Map.Entry<BString, Object> property : properties.entrySet()) {
+            String key = property.getKey().getValue();
+            Object value = property.getValue();
+            if (value instanceof Long longValue) {
+                message.setLongProperty(key, longValue);
+            } else if (value instanceof Boolean booleanValue) {
+                message.setBooleanProperty(key, booleanValue);
+            } else if (value instanceof Byte byteValue) {
+                message.setByteProperty(key, byteValue);
+            } else if (value instanceof Double doubleValue) {
+                message.setDoubleProperty(key, doubleValue);
+            } else if (value instanceof BString stringValue) {
+                message.setStringProperty(key, stringValue.getValue());
+            }
+        }
     }
 
     private static Message getJmsMessage(Session session, Object content) throws JMSException {
@@ -124,20 +153,21 @@ public final class MessageConverter {
         } else if (content instanceof BMap) {
             MapMessage message = session.createMapMessage();
             BMap<BString, Object> mapValue = (BMap<BString, Object>) content;
-            for (BString key: mapValue.getKeys()) {
-                Object value = mapValue.get(key);
+            for (Map.Entry<BString, Object> entry : mapValue.entrySet()) {
+                String key = entry.getKey().getValue();
+                Object value = entry.getValue();
                 if (value instanceof Long longValue) {
-                    message.setLong(key.getValue(), longValue);
+                    message.setLong(key, longValue);
                 } else if (value instanceof Boolean booleanValue) {
-                    message.setBoolean(key.getValue(), booleanValue);
+                    message.setBoolean(key, booleanValue);
                 } else if (value instanceof Byte byteValue) {
-                    message.setByte(key.getValue(), byteValue);
+                    message.setByte(key, byteValue);
                 } else if (value instanceof BArray bytesValue) {
-                    message.setBytes(key.getValue(), bytesValue.getBytes());
+                    message.setBytes(key, bytesValue.getBytes());
                 } else if (value instanceof Double doubleValue) {
-                    message.setDouble(key.getValue(), doubleValue);
+                    message.setDouble(key, doubleValue);
                 } else if (value instanceof BString stringValue) {
-                    message.setString(key.getValue(), stringValue.getValue());
+                    message.setString(key, stringValue.getValue());
                 }
             }
             return message;
@@ -150,41 +180,125 @@ public final class MessageConverter {
     }
 
     public static BMap<BString, Object> convertToBMessage(Message message) throws JMSException, BallerinaJmsException {
+        return convertToBMessage(message, null);
+    }
+
+    /**
+     * Converts a JMS message to a Ballerina `jms:Message` record, including only the headers and the properties
+     * selected by the projection.
+     *
+     * @param message    The JMS message
+     * @param projection The headers and the properties to be included, or {@code null} to include all of them
+     * @return The Ballerina message record
+     * @throws JMSException if an error occurs while reading the message
+     * @throws BallerinaJmsException if the message contains an unsupported value
+     */
+    public static BMap<BString, Object> convertToBMessage(Message message, MessageProjection projection)
+            throws JMSException, BallerinaJmsException {
+        return convertToBMessage(message, projection, getMessageProperties(message, projection),
+                getMessageContent(message));
+    }
+
+    static BMap<BString, Object> convertToBMessage(Message message, MessageProjection projection,
+                                                   BMap<BString, Object> properties, Object content)
+            throws JMSException {
         BMap<BString, Object> ballerinaMessage = ValueCreator.createRecordValue(ModuleUtils.getModule(),
                 Constants.MESSAGE_BAL_RECORD_NAME);
-        ballerinaMessage.put(MESSAGE_ID, StringUtils.fromString(message.getJMSMessageID()));
-        ballerinaMessage.put(TIMESTAMP, message.getJMSTimestamp());
-        if (Objects.nonNull(message.getJMSCorrelationID())) {
+        return populateBMessage(ballerinaMessage, message, projection, properties, content);
+    }
+
+    /**
+     * Populates a Ballerina message record, which is either a `jms:Message` or a user defined subtype of it, with the
+     * headers selected by the projection and the given properties and content.
+     *
+     * @param ballerinaMessage The Ballerina message record to be populated
+     * @param message          The JMS message
+     * @param projection       The headers to be included, or {@code null} to include all of them
+     * @param properties       The message properties, or {@code null} if the record does not have a properties field
+     * @param content          The message content
+     * @return The populated Ballerina message record
+     * @throws JMSException if an error occurs while reading the message headers
+     */
+    public static BMap<BString, Object> populateBMessage(BMap<BString, Object> ballerinaMessage, Message message,
+                                                         MessageProjection projection,
+                                                         BMap<BString, Object> properties, Object content)
+            throws JMSException {
+        if (includesHeader(projection, MESSAGE_ID)) {
+            ballerinaMessage.put(MESSAGE_ID, StringUtils.fromString(message.getJMSMessageID()));
+        }
+        if (includesHeader(projection, TIMESTAMP)) {
+            ballerinaMessage.put(TIMESTAMP, message.getJMSTimestamp());
+        }
+        if (includesHeader(projection, CORRELATION_ID) && Objects.nonNull(message.getJMSCorrelationID())) {
             ballerinaMessage.put(CORRELATION_ID, StringUtils.fromString(message.getJMSCorrelationID()));
         }
-        if (Objects.nonNull(message.getJMSReplyTo())) {
+        if (includesHeader(projection, REPLY_TO) && Objects.nonNull(message.getJMSReplyTo())) {
             ballerinaMessage.put(REPLY_TO, CommonUtils.getJmsDestinationField(message.getJMSReplyTo()));
         }
-        if (Objects.nonNull(message.getJMSDestination())) {
+        if (includesHeader(projection, DESTINATION) && Objects.nonNull(message.getJMSDestination())) {
             ballerinaMessage.put(DESTINATION, CommonUtils.getJmsDestinationField(message.getJMSDestination()));
         }
-        ballerinaMessage.put(DELIVERY_MODE, message.getJMSDeliveryMode());
-        ballerinaMessage.put(REDELIVERED, message.getJMSRedelivered());
-        if (Objects.nonNull(message.getJMSType())) {
+        if (includesHeader(projection, DELIVERY_MODE)) {
+            ballerinaMessage.put(DELIVERY_MODE, message.getJMSDeliveryMode());
+        }
+        if (includesHeader(projection, REDELIVERED)) {
+            ballerinaMessage.put(REDELIVERED, message.getJMSRedelivered());
+        }
+        if (includesHeader(projection, JMS_TYPE) && Objects.nonNull(message.getJMSType())) {
             ballerinaMessage.put(JMS_TYPE, StringUtils.fromString(message.getJMSType()));
         }
-        ballerinaMessage.put(EXPIRATION, message.getJMSExpiration());
-        try {
-            ballerinaMessage.put(DELIVERED_TIME, message.getJMSDeliveryTime());
-        } catch (UnsupportedOperationException e) {
-            // This exception occurs when the client connect to a JMS provider who supports JMS 1.x.
-            // Hence, ignoring this exception.
+        if (includesHeader(projection, EXPIRATION)) {
+            ballerinaMessage.put(EXPIRATION, message.getJMSExpiration());
+        }
+        if (includesHeader(projection, DELIVERED_TIME)) {
+            try {
+                ballerinaMessage.put(DELIVERED_TIME, message.getJMSDeliveryTime());
+            } catch (UnsupportedOperationException e) {
+                // This exception occurs when the client connect to a JMS provider who supports JMS 1.x.
+                // Hence, ignoring this exception.
+            }
+        }
+        if (includesHeader(projection, PRIORITY)) {
+            ballerinaMessage.put(PRIORITY, message.getJMSPriority());
+        }
+        if (Objects.nonNull(properties)) {
+            ballerinaMessage.put(PROPERTIES, properties);
         }
-        ballerinaMessage.put(PRIORITY, message.getJMSPriority());
-        ballerinaMessage.put(PROPERTIES, getMessageProperties(message));
-        Object content = getMessageContent(message);
         ballerinaMessage.put(CONTENT, content);
         ballerinaMessage.addNativeData(NATIVE_MESSAGE, message);
         return ballerinaMessage;
     }
 
+    private static boolean includesHeader(MessageProjection projection, BString header) {
+        return Objects.isNull(projection) || projection.includesHeader(header.getValue());
+    }
+
+    /**
+     * Creates an empty Ballerina `jms:Message[]` array, to which the converted messages of a batch are appended.
+     *
+     * @return The Ballerina message array
+     */
+    public static BArray createBMessageArray() {
+        return ValueCreator.createArrayValue(MessageArrayType.TYPE);
+    }
+
+    /**
+     * Reads the properties of a JMS message, including only the properties selected by the projection.
+     *
+     * @param message    The JMS message
+     * @param projection The properties to be included, or {@code null} to include all of them
+     * @return The Ballerina map of the message properties
+     * @throws JMSException if an error occurs while reading the message properties
+     * @throws BallerinaJmsException if a property contains an unsupported value
+     */
+    public static BMap<BString, Object> getMessageProperties(Message message, MessageProjection projection)
+            throws JMSException, BallerinaJmsException {
+        return Objects.isNull(projection) || Objects.isNull(projection.properties()) ?
+                getMessageProperties(message) : getMessageProperties(message, projection.properties());
+    }
+
     @SuppressWarnings("unchecked")
-    private static BMap<BString, Object> getMessageProperties(Message message)
+    static BMap<BString, Object> getMessageProperties(Message message)
             throws JMSException, BallerinaJmsException {
         BMap<BString, Object> messageProperties = ValueCreator.createMapValue(BALLERINA_MSG_PROPERTY_TYPE);
         Enumeration<String> propertyNames = message.getPropertyNames();
@@ -192,13 +306,25 @@ public final class MessageConverter {
         while (iterator.hasNext()) {
             String key = iterator.next();
             Object value = message.getObjectProperty(key);
-            messageProperties.put(StringUtils.fromString(key), getMapValue(value));
+            messageProperties.put(KeyCache.get(key), getMapValue(value));
+        }
+        return messageProperties;
+    }
+
+    private static BMap<BString, Object> getMessageProperties(Message message, Set<String> propertyNames)
+            throws JMSException, BallerinaJmsException {
+        BMap<BString, Object> messageProperties = ValueCreator.createMapValue(BALLERINA_MSG_PROPERTY_TYPE);
+        // only the selected properties are read, instead of enumerating all the properties of the message
+        for (String key : propertyNames) {
+            if (message.propertyExists(key)) {
+                messageProperties.put(KeyCache.get(key), getMapValue(message.getObjectProperty(key)));
+            }
         }
         return messageProperties;
     }
 
     @SuppressWarnings("unchecked")
-    private static Object getMessageContent(Message message) throws JMSException, BallerinaJmsException {
+    public static Object getMessageContent(Message message) throws JMSException, BallerinaJmsException {
         if (message instanceof TextMessage) {
             return StringUtils.fromString(((TextMessage) message).getText());
         } else if (message instanceof MapMessage mapMessage) {
@@ -208,36 +334,64 @@ public final class MessageConverter {
             while (iterator.hasNext()) {
                 String key = iterator.next();
                 Object value = mapMessage.getObject(key);
-                content.put(StringUtils.fromString(key), getMapValue(value));
+                content.put(KeyCache.get(key), getMapValue(value));
             }
             return content;
-        } else if (message instanceof BytesMessage) {
-            long bodyLength = ((BytesMessage) message).getBodyLength();
-            byte[] payload = new byte[(int) bodyLength];
-            ((BytesMessage) message).readBytes(payload);
-            return ValueCreator.createArrayValue(payload);
+        } else if (message instanceof BytesMessage bytesMessage) {
+            return ValueCreator.createArrayValue(readBytes(bytesMessage));
         }
         throw new BallerinaJmsException(
                 String.format("Unsupported message type: %s", message.getClass().getTypeName()));
     }
 
-    private static Object getMapValue(Object value) throws BallerinaJmsException {
-        if (isPrimitive(value)) {
-            Type type = TypeUtils.getType(value);
-            return ValueUtils.convert(value, type);
+    /**
+     * Reads the whole body of a JMS bytes message.
+     *
+     * @param message The JMS bytes message
+     * @return The message body
+     * @throws JMSException if an error occurs while reading the message body
+     * @throws BallerinaJmsException if the message body is too large to be read at once
+     */
+    public static byte[] readBytes(BytesMessage message) throws JMSException, BallerinaJmsException {
+        // reading the body from the beginning allows the content to be read again, e.g. when redelivering locally
+        message.reset();
+        long bodyLength = message.getBodyLength();
+        if (bodyLength > MAX_ARRAY_LENGTH) {
+            throw new BallerinaJmsException(String.format(
+                    "Bytes message body of %d bytes is too large to be read at once, read it in chunks instead",
+                    bodyLength));
         }
-        if (value instanceof String) {
-            return StringUtils.fromString((String) value);
-        }
-        if (value instanceof byte[]) {
-            return ValueCreator.createArrayValue((byte[]) value);
+        byte[] payload = new byte[(int) bodyLength];
+        message.readBytes(payload);
+        return payload;
+    }
+
+    static Object getMapValue(Object value) throws BallerinaJmsException {
+        // the JMS value types are mapped directly to their Ballerina representations, without resolving their types
+        if (value instanceof String stringValue) {
+            return StringUtils.fromString(stringValue);
+        } else if (value instanceof Long || value instanceof Boolean || value instanceof Double) {
+            return value;
+        } else if (value instanceof Integer || value instanceof Short) {
+            return ((Number) value).longValue();
+        } else if (value instanceof Float floatValue) {
+            return floatValue.doubleValue();
+        } else if (value instanceof Byte byteValue) {
+            return Byte.toUnsignedInt(byteValue);
+        } else if (value instanceof Character charValue) {
+            return StringUtils.fromString(String.valueOf(charValue));
+        } else if (value instanceof byte[] bytesValue) {
+            return ValueCreator.createArrayValue(bytesValue);
         }
         throw new BallerinaJmsException(
                 String.format("Unidentified map value type: %s", value.getClass().getTypeName()));
     }
 
-    private static boolean isPrimitive(Object value) {
-        return value instanceof Boolean || value instanceof Byte || value instanceof Character ||
-                value instanceof Integer || value instanceof Long || value instanceof Float || value instanceof Double;
+    /**
+     * Holds the `jms:Message[]` type, which is resolved only after the module is initialized.
+     */
+    private static final class MessageArrayType {
+        private static final ArrayType TYPE = TypeCreator.createArrayType(ValueCreator.createRecordValue(
+                ModuleUtils.getModule(), Constants.MESSAGE_BAL_RECORD_NAME).getType());
     }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.java.jms;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Represents the headers and the properties to be included when a JMS message is converted to a Ballerina message.
+ *
+ * @param headers    The names of the headers to be included, or {@code null} to include all the headers
+ * @param properties The names of the properties to be included, or {@code null} to include all the properties
+ * @since 1.2.0
+ */
+public record MessageProjection(Set<String> headers, Set<String> properties) {
+    private static final BString HEADERS = StringUtils.fromString("headers");
+    private static final BString PROPERTIES = StringUtils.fromString("properties");
+
+    /**
+     * Creates the projection of a Ballerina `jms:MessageProjection` record.
+     *
+     * @param projection The Ballerina projection record, or {@code null}
+     * @return The projection, or {@code null} if all the headers and the properties are to be included
+     */
+    public static MessageProjection from(BMap<BString, Object> projection) {
+        if (Objects.isNull(projection)) {
+            return null;
+        }
+        return new MessageProjection(getNames(projection, HEADERS), getNames(projection, PROPERTIES));
+    }
+
+    private static Set<String> getNames(BMap<BString, Object> projection, BString field) {
+        if (!projection.containsKey(field)) {
+            return null;
+        }
+        BArray names = projection.getArrayValue(field);
+        Set<String> nameSet = new HashSet<>();
+        for (int i = 0; i < names.size(); i++) {
+            nameSet.add(names.getBString(i).getValue());
+        }
+        return Set.copyOf(nameSet);
+    }
+
+    boolean includesHeader(String header) {
+        return Objects.isNull(headers) || headers.contains(header);
+    }
+}
@@ -1,40 +0,0 @@
-/*
- * Copyright (c) 2024 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
- *
- * WSO2 Inc. licenses this file to you under the Apache License,
- * Version 2.0 (the "License"); you may not use this file except
- * in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing,
- * software distributed under the License is distributed on an
- * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
- * KIND, either express or implied.  See the License for the
- * specific language governing permissions and limitations
- * under the License.
- */
-
-package io.ballerina.stdlib.java.jms;
-
-import io.ballerina.runtime.api.creators.ErrorCreator;
-
-import java.util.concurrent.CompletableFuture;
-
-/**
- * Util methods for java.jms operations.
- */
-public class Util {
-    private Util() {
-        //private constructor
-    }
-
-    public static Object getResult(CompletableFuture<Object> balFuture) {
-        try {
-            return balFuture.get();
-        } catch (Throwable throwable) {
-            throw ErrorCreator.createError(throwable);
-        }
-    }
-}
@@ -19,18 +19,21 @@
 package io.ballerina.stdlib.java.jms.consumer;
 
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.java.jms.BallerinaJmsException;
+import io.ballerina.stdlib.java.jms.LazyMessage;
 import io.ballerina.stdlib.java.jms.MessageConverter;
-import io.ballerina.stdlib.java.jms.Util;
+import io.ballerina.stdlib.java.jms.MessageProjection;
+import io.ballerina.stdlib.java.jms.ModuleUtils;
 
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
 
 import javax.jms.Destination;
 import javax.jms.JMSException;
@@ -42,6 +45,8 @@ import javax.jms.Topic;
 import static io.ballerina.stdlib.java.jms.CommonUtils.createError;
 import static io.ballerina.stdlib.java.jms.CommonUtils.getDestination;
 import static io.ballerina.stdlib.java.jms.CommonUtils.getOptionalStringProperty;
+import static io.ballerina.stdlib.java.jms.Constants.BATCH_RECEIVE_ERROR;
+import static io.ballerina.stdlib.java.jms.Constants.BATCH_RECEIVE_ERROR_DETAIL;
 import static io.ballerina.stdlib.java.jms.Constants.JMS_ERROR;
 import static io.ballerina.stdlib.java.jms.Constants.NATIVE_CONSUMER;
 import static io.ballerina.stdlib.java.jms.Constants.NATIVE_MESSAGE;
@@ -56,6 +61,12 @@ public class Actions {
     private static final BString MESSAGE_SELECTOR = StringUtils.fromString("messageSelector");
     private static final BString NO_LOCAL = StringUtils.fromString("noLocal");
     private static final BString SUBSCRIBER_NAME = StringUtils.fromString("subscriberName");
+    private static final BString PROJECTION = StringUtils.fromString("projection");
+    private static final BString MESSAGES = StringUtils.fromString("messages");
+    private static final String NATIVE_PROJECTION = "projection";
+    private static final String NATIVE_CONSUMER_STATE = "consumerState";
+    private static final String STREAM_OPEN_ERROR =
+            "Messages can not be received from the consumer while a message stream of it is open.";
     private static final String DURABLE = "DURABLE";
     private static final String SHARED = "SHARED";
     private static final String DEFAULT = "DEFAULT";
@@ -74,6 +85,11 @@ public class Actions {
         try {
             MessageConsumer jmsConsumer = createConsumer(nativeSession, consumerOptions);
             consumer.addNativeData(NATIVE_CONSUMER, jmsConsumer);
+            consumer.addNativeData(NATIVE_CONSUMER_STATE, new ConsumerState(jmsConsumer, nativeSession));
+            if (consumerOptions.containsKey(PROJECTION)) {
+                consumer.addNativeData(NATIVE_PROJECTION,
+                        MessageProjection.from((BMap<BString, Object>) consumerOptions.getMapValue(PROJECTION)));
+            }
         } catch (BallerinaJmsException exception) {
             return createError(JMS_ERROR, exception.getMessage(), exception);
         } catch (JMSException exception) {
@@ -123,32 +139,60 @@ public class Actions {
      * or else the next message produced for this message consumer, or null
      */
     public static Object receive(Environment env, BObject consumer, long timeout) {
-        MessageConsumer nativeConsumer = (MessageConsumer) consumer.getNativeData(NATIVE_CONSUMER);
-        CompletableFuture<Object> balFuture = new CompletableFuture<>();
-        Thread.startVirtualThread(() -> {
+        ConsumerState state = getConsumerState(consumer);
+        if (state.isStreaming()) {
+            return createError(JMS_ERROR, STREAM_OPEN_ERROR);
+        }
+        MessageProjection projection = getProjection(consumer);
+        return env.yieldAndRun(() -> {
             try {
-                Message message = nativeConsumer.receive(timeout);
+                Message message = state.receive(timeout);
                 if (Objects.isNull(message)) {
-                    balFuture.complete(null);
-                } else {
-                    BMap<BString, Object> ballerinaMsg = MessageConverter.convertToBMessage(message);
-                    balFuture.complete(ballerinaMsg);
+                    return null;
                 }
+                return MessageConverter.convertToBMessage(message, projection);
             } catch (JMSException exception) {
-                BError bError = createError(JMS_ERROR,
+                return createError(JMS_ERROR,
                         String.format("Error occurred while receiving messages: %s", exception.getMessage()),
                         exception);
-                balFuture.complete(bError);
             } catch (BallerinaJmsException exception) {
-                balFuture.complete(createError(JMS_ERROR, exception.getMessage(), exception));
+                return createError(JMS_ERROR, exception.getMessage(), exception);
             } catch (Exception exception) {
-                BError bError = createError(JMS_ERROR,
+                return createError(JMS_ERROR,
                         String.format("Unknown error occurred while processing the received messages: %s",
                                 exception.getMessage()), exception);
-                balFuture.complete(bError);
             }
         });
-        return Util.getResult(balFuture);
+    }
+
+    /**
+     * Receives the next message that arrives within the specified timeout interval, without converting it. The
+     * headers, the properties and the content of the message are converted when they are accessed.
+     *
+     * @param env Ballerina runtime environment
+     * @param consumer Ballerina consumer object
+     * @param timeout  Message receive timeout
+     * @return A Ballerina `jms:Error` if the JMS MessageConsumer fails to receive the message due to some error
+     * or else the next message as a Ballerina `jms:LazyMessage`, or null
+     */
+    public static Object receiveLazy(Environment env, BObject consumer, long timeout) {
+        ConsumerState state = getConsumerState(consumer);
+        if (state.isStreaming()) {
+            return createError(JMS_ERROR, STREAM_OPEN_ERROR);
+        }
+        return env.yieldAndRun(() -> {
+            try {
+                Message message = state.receive(timeout);
+                if (Objects.isNull(message)) {
+                    return null;
+                }
+                return LazyMessage.createLazyMessage(message);
+            } catch (JMSException exception) {
+                return createError(JMS_ERROR,
+                        String.format("Error occurred while receiving messages: %s", exception.getMessage()),
+                        exception);
+            }
+        });
     }
 
     /**
@@ -160,32 +204,93 @@ public class Actions {
      * or else the next message produced for this message consumer, or null
      */
     public static Object receiveNoWait(Environment env, BObject consumer) {
-        MessageConsumer nativeConsumer = (MessageConsumer) consumer.getNativeData(NATIVE_CONSUMER);
-        CompletableFuture<Object> balFuture = new CompletableFuture<>();
-        Thread.startVirtualThread(() -> {
+        ConsumerState state = getConsumerState(consumer);
+        if (state.isStreaming()) {
+            return createError(JMS_ERROR, STREAM_OPEN_ERROR);
+        }
+        MessageProjection projection = getProjection(consumer);
+        return env.yieldAndRun(() -> {
             try {
-                Message message = nativeConsumer.receiveNoWait();
+                Message message = state.receiveNoWait();
                 if (Objects.isNull(message)) {
-                    balFuture.complete(null);
-                } else {
-                    BMap<BString, Object> ballerinaMsg = MessageConverter.convertToBMessage(message);
-                    balFuture.complete(ballerinaMsg);
+                    return null;
                 }
+                return MessageConverter.convertToBMessage(message, projection);
             } catch (JMSException exception) {
-                BError bError = createError(JMS_ERROR,
+                return createError(JMS_ERROR,
                         String.format("Error occurred while receiving messages: %s", exception.getMessage()),
                         exception);
-                balFuture.complete(bError);
             } catch (BallerinaJmsException exception) {
-                balFuture.complete(createError(JMS_ERROR, exception.getMessage(), exception));
+                return createError(JMS_ERROR, exception.getMessage(), exception);
             } catch (Exception exception) {
-                BError bError = createError(JMS_ERROR,
+                return createError(JMS_ERROR,
                         String.format("Unknown error occurred while processing the received messages: %s",
                                 exception.getMessage()), exception);
-                balFuture.complete(bError);
             }
         });
-        return Util.getResult(balFuture);
+    }
+
+    /**
+     * Receives a batch of messages in a single call. This waits for the first message up to the specified timeout,
+     * and then collects the messages which are immediately available until the batch is full. Each message is
+     * converted as soon as it is received, so that the messages received before a failure are returned with the error.
+     *
+     * @param env Ballerina runtime environment
+     * @param consumer Ballerina consumer object
+     * @param maxMessages The maximum number of messages in the batch
+     * @param timeout  The timeout value to wait for the first message (in milliseconds)
+     * @return A Ballerina `jms:BatchReceiveError` if the JMS MessageConsumer fails to receive the messages due to some
+     * error or else the received messages, which is empty if no message arrived within the timeout
+     */
+    public static Object receiveBatch(Environment env, BObject consumer, long maxMessages, long timeout) {
+        if (maxMessages <= 0) {
+            return createError(JMS_ERROR, "maxMessages must be a positive integer.");
+        }
+        if (timeout <= 0) {
+            // a zero timeout would block until a message arrives, since JMS does not time out a receive of 0
+            return createError(JMS_ERROR, "timeoutMillis must be a positive integer.");
+        }
+        ConsumerState state = getConsumerState(consumer);
+        if (state.isStreaming()) {
+            return createError(JMS_ERROR, STREAM_OPEN_ERROR);
+        }
+        MessageProjection projection = getProjection(consumer);
+        return env.yieldAndRun(() -> {
+            BArray messages = MessageConverter.createBMessageArray();
+            try {
+                Message message = state.receive(timeout);
+                while (Objects.nonNull(message)) {
+                    messages.append(MessageConverter.convertToBMessage(message, projection));
+                    message = messages.size() < maxMessages ? state.receiveNoWait() : null;
+                }
+                return messages;
+            } catch (JMSException exception) {
+                return createBatchReceiveError(
+                        String.format("Error occurred while receiving messages: %s", exception.getMessage()),
+                        exception, messages);
+            } catch (BallerinaJmsException exception) {
+                return createBatchReceiveError(exception.getMessage(), exception, messages);
+            } catch (Exception exception) {
+                return createBatchReceiveError(
+                        String.format("Unknown error occurred while processing the received messages: %s",
+                                exception.getMessage()), exception, messages);
+            }
+        });
+    }
+
+    private static BError createBatchReceiveError(String message, Exception exception, BArray messages) {
+        BMap<BString, Object> details = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                BATCH_RECEIVE_ERROR_DETAIL);
+        details.put(MESSAGES, messages);
+        return createError(BATCH_RECEIVE_ERROR, message, exception, details);
+    }
+
+    static MessageProjection getProjection(BObject consumer) {
+        return (MessageProjection) consumer.getNativeData(NATIVE_PROJECTION);
+    }
+
+    static ConsumerState getConsumerState(BObject consumer) {
+        return (ConsumerState) consumer.getNativeData(NATIVE_CONSUMER_STATE);
     }
 
     /**
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.java.jms.consumer;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageConsumer;
+import javax.jms.Session;
+
+/**
+ * Tracks the message stream of a {@link MessageConsumer}. While a stream is open, its background receiver is the only
+ * one receiving from the consumer. When the stream is closed, the messages which it received but did not deliver are
+ * handed back, and they are returned by the subsequent receives of the consumer before any new message, since they
+ * are already consumed from the JMS provider.
+ *
+ * @since 1.2.0
+ */
+final class ConsumerState {
+    private final MessageConsumer consumer;
+    private final boolean autoAcknowledged;
+    private final AtomicReference<MessagePrefetcher> stream = new AtomicReference<>();
+    private final Queue<Message> returnedMessages = new ConcurrentLinkedQueue<>();
+
+    ConsumerState(MessageConsumer consumer, Session session) throws JMSException {
+        this.consumer = consumer;
+        this.autoAcknowledged = !session.getTransacted() &&
+                (Session.AUTO_ACKNOWLEDGE == session.getAcknowledgeMode() ||
+                        Session.DUPS_OK_ACKNOWLEDGE == session.getAcknowledgeMode());
+    }
+
+    MessageConsumer getConsumer() {
+        return consumer;
+    }
+
+    /**
+     * Returns whether the messages of the consumer are acknowledged as they are received. Only then a stream can
+     * receive messages ahead of the caller, since acknowledging or committing the session would otherwise also apply
+     * to the buffered messages which the caller has not seen.
+     *
+     * @return {@code true} if the session of the consumer is an auto acknowledged or dups ok acknowledged session
+     */
+    boolean isAutoAcknowledged() {
+        return autoAcknowledged;
+    }
+
+    boolean isStreaming() {
+        return Objects.nonNull(stream.get());
+    }
+
+    /**
+     * Registers a stream of the consumer.
+     *
+     * @param prefetcher The prefetcher of the stream
+     * @return {@code false} if another stream of the consumer is already open
+     */
+    boolean openStream(MessagePrefetcher prefetcher) {
+        return stream.compareAndSet(null, prefetcher);
+    }
+
+    /**
+     * Releases the consumer from a stream, taking back the messages which the stream did not deliver.
+     *
+     * @param prefetcher          The prefetcher of the stream
+     * @param undeliveredMessages The undelivered messages, in the order in which they were received
+     */
+    void closeStream(MessagePrefetcher prefetcher, List<Message> undeliveredMessages) {
+        // the messages are returned before the consumer is released, so that no receive overtakes them
+        returnedMessages.addAll(undeliveredMessages);
+        stream.compareAndSet(prefetcher, null);
+    }
+
+    Message receive(long timeout) throws JMSException {
+        Message message = returnedMessages.poll();
+        return Objects.nonNull(message) ? message : consumer.receive(timeout);
+    }
+
+    Message receiveNoWait() throws JMSException {
+        Message message = returnedMessages.poll();
+        return Objects.nonNull(message) ? message : consumer.receiveNoWait();
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.java.jms.consumer;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.java.jms.BallerinaJmsException;
+import io.ballerina.stdlib.java.jms.LazyMessage;
+import io.ballerina.stdlib.java.jms.MessageConverter;
+import io.ballerina.stdlib.java.jms.MessageProjection;
+
+import java.lang.ref.Cleaner;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageConsumer;
+
+import static io.ballerina.stdlib.java.jms.CommonUtils.createError;
+import static io.ballerina.stdlib.java.jms.Constants.JMS_ERROR;
+
+/**
+ * Backs a Ballerina message stream of a {@link MessageConsumer}. A background receiver keeps a bounded buffer filled
+ * with converted messages, so that receiving and converting the next messages overlaps with processing the current
+ * message. A lazy stream buffers the messages without converting them, as `jms:LazyMessage` objects.
+ * <p>
+ * The receiver lives as long as the stream. It stops when the stream is closed, when the stream completes after being
+ * idle, and when an abandoned stream is garbage collected. Since the buffered messages are already consumed from the
+ * JMS provider, the messages which are not delivered through a closed or abandoned stream are handed back to the
+ * consumer. For the same reason, a stream is only supported on auto acknowledged sessions, and the consumer can not be
+ * used to receive messages directly while its stream is open.
+ *
+ * @since 1.2.0
+ */
+public final class MessagePrefetcher {
+    private static final String NATIVE_PREFETCHER = "prefetcher";
+    private static final long POLL_TIMEOUT_MILLIS = 1000;
+    private static final Cleaner STREAM_CLEANER = Cleaner.create();
+
+    private final ConsumerState consumerState;
+    private final MessageProjection projection;
+    private final boolean lazy;
+    private final BlockingQueue<Prefetched> buffer;
+    private final long idleTimeoutMillis;
+    private final Thread receiver;
+    private final AtomicBoolean released = new AtomicBoolean(false);
+    private volatile boolean receiving = true;
+    private volatile boolean stopped = false;
+    private volatile boolean closed = false;
+    private volatile Message undeliveredMessage;
+
+    private MessagePrefetcher(ConsumerState consumerState, MessageProjection projection, boolean lazy, int prefetch,
+                              long idleTimeoutMillis) {
+        this.consumerState = consumerState;
+        this.projection = projection;
+        this.lazy = lazy;
+        this.buffer = new ArrayBlockingQueue<>(prefetch);
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.receiver = Thread.ofVirtual().name("balx-jms-prefetcher").unstarted(this::receiveMessages);
+    }
+
+    /**
+     * Creates the prefetcher of a Ballerina message stream, and starts receiving messages in the background.
+     *
+     * @param stream            Ballerina message stream object
+     * @param consumer          Ballerina consumer object
+     * @param prefetch          The maximum number of messages buffered ahead of the stream
+     * @param idleTimeoutMillis The time after which the stream completes if no message arrives, or a negative value
+     *                          to wait until the stream is closed
+     * @param lazy              Whether the messages are provided as `jms:LazyMessage` objects, which are converted
+     *                          only when they are accessed
+     * @return A Ballerina `jms:Error` if the prefetch value is invalid, the session of the consumer is not auto
+     * acknowledged, or another stream of the consumer is open
+     */
+    public static Object init(BObject stream, BObject consumer, long prefetch, long idleTimeoutMillis,
+                              boolean lazy) {
+        if (prefetch <= 0 || prefetch > Integer.MAX_VALUE) {
+            return createError(JMS_ERROR, "prefetch must be a positive integer.");
+        }
+        ConsumerState consumerState = Actions.getConsumerState(consumer);
+        if (!consumerState.isAutoAcknowledged()) {
+            return createError(JMS_ERROR, "A message stream is only supported for consumers of AUTO_ACKNOWLEDGE and " +
+                    "DUPS_OK_ACKNOWLEDGE sessions.");
+        }
+        MessagePrefetcher prefetcher = new MessagePrefetcher(consumerState, Actions.getProjection(consumer), lazy,
+                (int) prefetch, idleTimeoutMillis);
+        if (!consumerState.openStream(prefetcher)) {
+            return createError(JMS_ERROR, "A message stream of the consumer is already open.");
+        }
+        stream.addNativeData(NATIVE_PREFETCHER, prefetcher);
+        // the cleaning action refers only to the prefetcher, so that the receiver does not keep the stream reachable
+        STREAM_CLEANER.register(stream, prefetcher::stop);
+        prefetcher.receiver.start();
+        return null;
+    }
+
+    private void receiveMessages() {
+        try {
+            while (!stopped) {
+                Message message = consumerState.getConsumer().receive(POLL_TIMEOUT_MILLIS);
+                if (Objects.nonNull(message)) {
+                    Object value = lazy ? LazyMessage.createLazyMessage(message) :
+                            MessageConverter.convertToBMessage(message, projection);
+                    enqueue(new Prefetched(message, value));
+                }
+            }
+        } catch (JMSException exception) {
+            // the consumer fails to receive once it is closed, which completes the stream
+            if (!stopped) {
+                enqueue(new Prefetched(null, createError(JMS_ERROR,
+                        String.format("Error occurred while receiving messages: %s", exception.getMessage()),
+                        exception)));
+            }
+        } catch (BallerinaJmsException exception) {
+            enqueue(new Prefetched(null, createError(JMS_ERROR, exception.getMessage(), exception)));
+        } finally {
+            receiving = false;
+            if (closed) {
+                release();
+            }
+        }
+    }
+
+    private void enqueue(Prefetched item) {
+        boolean enqueued = false;
+        try {
+            // wait until the stream pulls a message, unless the stream is closed meanwhile. A message received after
+            // the receiver is stopped is still handed over, since it is already consumed from the JMS provider.
+            while (!closed && !enqueued) {
+                enqueued = buffer.offer(item, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            stopped = true;
+            closed = true;
+        }
+        if (!enqueued) {
+            // handed back to the consumer together with the buffered messages
+            undeliveredMessage = item.message();
+        }
+    }
+
+    /**
+     * Returns the next message of the stream, waiting until a message is available.
+     *
+     * @param env    Ballerina runtime environment
+     * @param stream Ballerina message stream object
+     * @return The next message, a Ballerina `jms:Error` if the messages could not be received, or else {@code null}
+     * when the stream is completed
+     */
+    public static Object next(Environment env, BObject stream) {
+        MessagePrefetcher prefetcher = (MessagePrefetcher) stream.getNativeData(NATIVE_PREFETCHER);
+        return env.yieldAndRun(prefetcher::take);
+    }
+
+    private Object take() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+        try {
+            while (!closed) {
+                long pollTimeout = TimeUnit.MILLISECONDS.toNanos(POLL_TIMEOUT_MILLIS);
+                if (idleTimeoutMillis >= 0) {
+                    pollTimeout = Math.min(pollTimeout, deadline - System.nanoTime());
+                }
+                Prefetched item = buffer.poll(pollTimeout, TimeUnit.NANOSECONDS);
+                if (Objects.nonNull(item)) {
+                    return item.value();
+                }
+                boolean idle = idleTimeoutMillis >= 0 && deadline - System.nanoTime() <= 0;
+                if (idle && receiving) {
+                    // wait for the receiver to stop before completing the stream, so that a message which it received
+                    // meanwhile is delivered through the stream instead of being dropped
+                    stopped = true;
+                    receiver.join();
+                } else if (!receiving && buffer.isEmpty()) {
+                    // the buffered messages are delivered before completing the stream when the receiver stops
+                    closed = true;
+                    release();
+                }
+            }
+            return null;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return createError(JMS_ERROR, "Interrupted while waiting for the next message", exception);
+        }
+    }
+
+    /**
+     * Closes the stream. The background receiver is stopped and awaited, and the messages which were received but not
+     * delivered through the stream are handed back to the consumer.
+     *
+     * @param env    Ballerina runtime environment
+     * @param stream Ballerina message stream object
+     * @return A Ballerina `jms:Error` if the current thread is interrupted while waiting for the receiver to stop, or
+     * else {@code null}
+     */
+    public static Object close(Environment env, BObject stream) {
+        MessagePrefetcher prefetcher = (MessagePrefetcher) stream.getNativeData(NATIVE_PREFETCHER);
+        return env.yieldAndRun(() -> {
+            prefetcher.stop();
+            try {
+                prefetcher.receiver.join();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return createError(JMS_ERROR, "Interrupted while closing the message stream", exception);
+            }
+            return null;
+        });
+    }
+
+    private void stop() {
+        stopped = true;
+        closed = true;
+        // the receiver releases the consumer when it exits, unless it has already exited
+        if (!receiving) {
+            release();
+        }
+    }
+
+    private void release() {
+        if (!released.compareAndSet(false, true)) {
+            return;
+        }
+        List<Message> undeliveredMessages = new ArrayList<>();
+        List<Prefetched> items = new ArrayList<>();
+        buffer.drainTo(items);
+        for (Prefetched item : items) {
+            if (Objects.nonNull(item.message())) {
+                undeliveredMessages.add(item.message());
+            }
+        }
+        if (Objects.nonNull(undeliveredMessage)) {
+            undeliveredMessages.add(undeliveredMessage);
+        }
+        consumerState.closeStream(this, undeliveredMessages);
+    }
+
+    /**
+     * A buffered item of the stream.
+     *
+     * @param message The received JMS message, or {@code null} if the item is an error
+     * @param value   The value delivered through the stream
+     */
+    private record Prefetched(Message message, Object value) {
+    }
+}
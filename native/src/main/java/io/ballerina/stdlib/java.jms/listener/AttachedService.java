@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.java.jms.listener;
+
+import io.ballerina.runtime.api.Runtime;
+
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import javax.jms.Connection;
+import javax.jms.JMSException;
+import javax.jms.MessageConsumer;
+import javax.jms.MessageListener;
+import javax.jms.Queue;
+import javax.jms.Session;
+import javax.jms.Topic;
+
+import static io.ballerina.stdlib.java.jms.JmsSession.getSessionAckMode;
+
+/**
+ * Represents a Ballerina JMS service attached to a listener, together with the JMS consumers opened for it and the
+ * permits used to track the messages which are being dispatched to it.
+ * <p>
+ * When the maximum consumer count of the service is greater than its consumer count, the consumers are scaled
+ * periodically. A consumer is added when the service is saturated or every consumer has a backlog of messages, and a
+ * consumer which has not received any message within the idle timeout is removed once the messages it delivered are
+ * processed. A removed consumer is drained and closed on its own virtual thread, so that the scaler thread shared by
+ * all the services is never blocked while the messages of a consumer are processed.
+ *
+ * @since 1.2.0
+ */
+final class AttachedService {
+    private static final PrintStream ERR_OUT = System.err;
+    private static final String PULL_CONSUMPTION_MODE = "PULL";
+    private static final long SCALE_INTERVAL_MILLIS = 1000;
+    private static final ScheduledExecutorService CONSUMER_SCALER = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("balx-jms-consumer-scaler").daemon().factory());
+
+    private final Runtime ballerinaRuntime;
+    private final Connection connection;
+    private final Service nativeService;
+    private final ServiceConfig serviceConfig;
+    private final int sessionAckMode;
+    private final List<ServiceConsumer> consumers = new CopyOnWriteArrayList<>();
+    private final Set<ServiceConsumer> removedConsumers = ConcurrentHashMap.newKeySet();
+    private final Semaphore dispatchPermits;
+    private final DispatchExecutor dispatchExecutor;
+    private final KeyOrderedExecutor orderedDispatchExecutor;
+    private final RedeliveryHandler redelivery;
+    private ScheduledFuture<?> scaler;
+    private boolean closed = false;
+
+    AttachedService(Runtime ballerinaRuntime, Connection connection, Service nativeService) {
+        this.ballerinaRuntime = ballerinaRuntime;
+        this.connection = connection;
+        this.nativeService = nativeService;
+        this.serviceConfig = nativeService.getServiceConfig();
+        this.sessionAckMode = getSessionAckMode(serviceConfig.ackMode());
+        // The in-flight limit and the message ordering are shared by all the consumers of the service
+        this.dispatchPermits = new Semaphore(serviceConfig.maxConcurrency());
+        this.dispatchExecutor = DispatchExecutor.create(serviceConfig);
+        this.orderedDispatchExecutor = new KeyOrderedExecutor(dispatchExecutor);
+        RedeliveryPolicy redeliveryPolicy = serviceConfig.redelivery();
+        this.redelivery = Objects.isNull(redeliveryPolicy) ? null :
+                new RedeliveryHandler(redeliveryPolicy, connection, dispatchExecutor::executeDetached);
+    }
+
+    /**
+     * Opens the initial consumers of the service, and starts scaling them if a maximum consumer count is configured.
+     *
+     * @throws JMSException if an error occurs while opening the consumers
+     */
+    synchronized void open() throws JMSException {
+        for (int i = 0; i < serviceConfig.consumerCount(); i++) {
+            addConsumer();
+        }
+        if (serviceConfig.maxConsumerCount() > serviceConfig.consumerCount()) {
+            this.scaler = CONSUMER_SCALER.scheduleWithFixedDelay(this::scaleConsumers, SCALE_INTERVAL_MILLIS,
+                    SCALE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void addConsumer() throws JMSException {
+        Session session = connection.createSession(Session.SESSION_TRANSACTED == sessionAckMode, sessionAckMode);
+        try {
+            MessageConsumer consumer = getConsumer(session, serviceConfig);
+            SessionAcknowledger acknowledger = getAcknowledger(session);
+            MessageListener messageDispatcher = nativeService.isBatchService() ?
+                    new BatchMessageDispatcher(
+                            ballerinaRuntime, nativeService, session, sessionAckMode, dispatchPermits) :
+                    new MessageDispatcher(ballerinaRuntime, nativeService, session, dispatchPermits,
+                            orderedDispatchExecutor, acknowledger, redelivery);
+            ConsumerActivity activity = new ConsumerActivity(messageDispatcher);
+            // Batches are always consumed through a receive loop, which dispatches a batch once its wait time elapses,
+            // and so are the messages which are automatically acknowledged, so that the session is only completed on
+            // the thread which consumes from it.
+            if (messageDispatcher instanceof BatchMessageDispatcher batchDispatcher) {
+                MessagePoller poller = new MessagePoller(
+                        consumer, activity, batchDispatcher, null, serviceConfig.pollTimeoutMillis());
+                consumers.add(new ServiceConsumer(session, consumer, messageDispatcher, poller, activity));
+                poller.start();
+            } else if (Objects.nonNull(acknowledger) ||
+                    PULL_CONSUMPTION_MODE.equals(serviceConfig.consumptionMode())) {
+                MessagePoller poller = new MessagePoller(
+                        consumer, activity, null, acknowledger, serviceConfig.pollTimeoutMillis());
+                consumers.add(new ServiceConsumer(session, consumer, messageDispatcher, poller, activity));
+                poller.start();
+            } else {
+                consumers.add(new ServiceConsumer(session, consumer, messageDispatcher, null, activity));
+                consumer.setMessageListener(activity);
+            }
+        } catch (JMSException e) {
+            session.close();
+            throw e;
+        }
+    }
+
+    private SessionAcknowledger getAcknowledger(Session session) {
+        if (!serviceConfig.autoAck()) {
+            return null;
+        }
+        return new SessionAcknowledger(session, sessionAckMode, serviceConfig);
+    }
+
+    private static MessageConsumer getConsumer(Session session, ServiceConfig svcConfig)
+            throws JMSException {
+        if (svcConfig instanceof QueueConfig queueConfig) {
+            Queue queue = session.createQueue(queueConfig.queueName());
+            return session.createConsumer(queue, queueConfig.messageSelector());
+        }
+        TopicConfig topicConfig = (TopicConfig) svcConfig;
+        Topic topic = session.createTopic(topicConfig.topicName());
+        switch (topicConfig.consumerType()) {
+            case "DURABLE" -> {
+                return session.createDurableConsumer(
+                        topic, topicConfig.subscriberName(), topicConfig.messageSelector(), topicConfig.noLocal());
+            }
+            case "SHARED" -> {
+                return session.createSharedConsumer(topic, topicConfig.subscriberName(), topicConfig.messageSelector());
+            }
+            case "SHARED_DURABLE" -> {
+                return session.createSharedDurableConsumer(
+                        topic, topicConfig.subscriberName(), topicConfig.messageSelector());
+            }
+            default -> {
+                return session.createConsumer(topic, topicConfig.messageSelector(), topicConfig.noLocal());
+            }
+        }
+    }
+
+    private synchronized void scaleConsumers() {
+        if (closed) {
+            return;
+        }
+        boolean saturated = dispatchPermits.availablePermits() == 0;
+        boolean allBacklogged = true;
+        ServiceConsumer idleConsumer = null;
+        long idleTimeout = TimeUnit.MILLISECONDS.toNanos(serviceConfig.consumerIdleTimeoutMillis());
+        for (ServiceConsumer consumer : consumers) {
+            ConsumerActivity activity = consumer.activity();
+            // evaluate all the consumers, so that the delivery counts are reset for the next check
+            allBacklogged &= activity.checkBacklog();
+            if (activity.getIdleNanos() > idleTimeout) {
+                idleConsumer = consumer;
+            }
+        }
+        try {
+            if ((saturated || allBacklogged) && consumers.size() < serviceConfig.maxConsumerCount()) {
+                addConsumer();
+            } else if (Objects.nonNull(idleConsumer) && consumers.size() > serviceConfig.consumerCount()) {
+                consumers.remove(idleConsumer);
+                removedConsumers.add(idleConsumer);
+                ServiceConsumer removedConsumer = idleConsumer;
+                Thread.ofVirtual().name("balx-jms-consumer-drainer").start(() -> drainAndClose(removedConsumer));
+            }
+        } catch (JMSException e) {
+            ERR_OUT.println("Error occurred while scaling the consumers of a JMS service: " + e.getMessage());
+        }
+    }
+
+    private void drainAndClose(ServiceConsumer consumer) {
+        int timeout = serviceConfig.gracefulStopTimeoutMillis();
+        try {
+            if (!consumer.drainAndClose(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout))) {
+                ERR_OUT.printf("In-flight messages of a removed JMS consumer did not complete within %d " +
+                        "milliseconds%n", timeout);
+            }
+        } catch (JMSException e) {
+            ERR_OUT.println("Error occurred while closing a removed JMS consumer: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            removedConsumers.remove(consumer);
+        }
+    }
+
+    Service getNativeService() {
+        return nativeService;
+    }
+
+    synchronized void stopPolling() {
+        if (Objects.nonNull(scaler)) {
+            scaler.cancel(false);
+            scaler = null;
+        }
+        consumers.forEach(ServiceConsumer::stopPolling);
+    }
+
+    /**
+     * Dispatches the partially filled message batches, waits until all the in-flight messages are processed by the
+     * service, and then completes the messages pending to be automatically committed or acknowledged.
+     *
+     * @param deadline The time (as per {@link System#nanoTime()}) until which to wait for the in-flight messages
+     * @return {@code true} if all the in-flight messages were processed before the deadline
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    boolean drain(long deadline) throws InterruptedException {
+        for (ServiceConsumer consumer : consumers) {
+            consumer.flush();
+        }
+        if (Objects.nonNull(redelivery)) {
+            // the failed messages waiting for their next attempt are dispatched without waiting for the backoff
+            redelivery.expedite();
+        }
+        int maxConcurrency = serviceConfig.maxConcurrency();
+        // all the permits are available only when no message is being dispatched to the service
+        if (!dispatchPermits.tryAcquire(maxConcurrency, deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+            return false;
+        }
+        dispatchPermits.release(maxConcurrency);
+        // the messages waiting for their next attempt do not hold a dispatch slot, but are in-flight in the consumers
+        for (ServiceConsumer consumer : consumers) {
+            if (!consumer.awaitInFlight(deadline)) {
+                return false;
+            }
+        }
+        // the consumers removed by the scaler are completed and closed by their own drainer threads
+        for (ServiceConsumer consumer : removedConsumers) {
+            if (!consumer.awaitInFlight(deadline)) {
+                return false;
+            }
+        }
+        consumers.forEach(ServiceConsumer::completePending);
+        return true;
+    }
+
+    synchronized void close() throws JMSException {
+        closed = true;
+        stopPolling();
+        JMSException closeError = null;
+        for (ServiceConsumer consumer : consumers) {
+            try {
+                consumer.close();
+            } catch (JMSException e) {
+                closeError = e;
+            }
+        }
+        consumers.clear();
+        // the removed consumers which are still being drained are closed without waiting for their messages
+        for (ServiceConsumer consumer : removedConsumers) {
+            try {
+                consumer.close();
+            } catch (JMSException e) {
+                closeError = e;
+            }
+        }
+        if (Objects.nonNull(redelivery)) {
+            redelivery.close();
+        }
+        dispatchExecutor.shutdown();
+        if (Objects.nonNull(closeError)) {
+            throw closeError;
+        }
+    }
+}
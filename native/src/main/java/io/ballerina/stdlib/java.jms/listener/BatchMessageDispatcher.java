@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.java.jms.listener;
+
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageListener;
+import javax.jms.Session;
+
+import static io.ballerina.stdlib.java.jms.CommonUtils.createError;
+import static io.ballerina.stdlib.java.jms.Constants.JMS_ERROR;
+
+/**
+ * A {@link javax.jms.MessageListener} implementation used to dispatch messages in batches to the {@code onMessages}
+ * method of a Ballerina JMS service. A batch is dispatched once it reaches the configured maximum size or once the
+ * configured maximum wait time elapses after its first message arrives. The message delivery of the session is paused
+ * while a batch is being processed, and the batch is committed or acknowledged as a whole for transacted and client
+ * acknowledged sessions.
+ * <p>
+ * The messages are consumed through the receive loop of a {@link MessagePoller}, which dispatches a batch once its
+ * wait time elapses. Hence a batch is always dispatched and completed on the thread which consumes from the session,
+ * or after that thread has stopped.
+ *
+ * @since 1.2.0
+ */
+public class BatchMessageDispatcher implements MessageListener {
+    private static final PrintStream ERR_OUT = System.err;
+
+    private final Runtime ballerinaRuntime;
+    private final Service nativeService;
+    private final Session session;
+    private final BObject caller;
+    private final int sessionAckMode;
+    private final Semaphore dispatchPermits;
+    private List<Message> batch = new ArrayList<>();
+    private long batchDeadline;
+
+    BatchMessageDispatcher(Runtime ballerinaRuntime, Service nativeService, Session session, int sessionAckMode,
+                           Semaphore dispatchPermits) {
+        this.ballerinaRuntime = ballerinaRuntime;
+        this.nativeService = nativeService;
+        this.session = session;
+        this.caller = Caller.createCaller(session);
+        this.sessionAckMode = sessionAckMode;
+        this.dispatchPermits = dispatchPermits;
+    }
+
+    @Override
+    public synchronized void onMessage(Message message) {
+        List<Message> currentBatch = this.batch;
+        currentBatch.add(message);
+        ServiceConfig svcConfig = this.nativeService.getServiceConfig();
+        if (currentBatch.size() >= svcConfig.maxBatchSize()) {
+            dispatchBatch();
+        } else if (currentBatch.size() == 1) {
+            this.batchDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(svcConfig.maxBatchWaitMillis());
+        }
+    }
+
+    /**
+     * Returns the time remaining until the collected messages are due to be dispatched.
+     *
+     * @return The remaining time in milliseconds, or {@code -1} if no message is waiting to be dispatched
+     */
+    synchronized long getMillisUntilDispatch() {
+        if (this.batch.isEmpty()) {
+            return -1;
+        }
+        long remainingNanos = this.batchDeadline - System.nanoTime();
+        return remainingNanos <= 0 ? 0 : Math.max(TimeUnit.NANOSECONDS.toMillis(remainingNanos), 1);
+    }
+
+    /**
+     * Dispatches the messages collected so far without waiting for the batch to be filled.
+     */
+    synchronized void flush() {
+        if (!this.batch.isEmpty()) {
+            dispatchBatch();
+        }
+    }
+
+    private void dispatchBatch() {
+        List<Message> messages = this.batch;
+        this.batch = new ArrayList<>();
+        try {
+            this.dispatchPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            completeBatch(messages, false);
+            return;
+        }
+        try {
+            InvocationPlan onMessages = this.nativeService.getOnMessages();
+            BArray batchMessages = ValueCreator.createArrayValue((ArrayType) onMessages.getPayloadType());
+            for (Message message : messages) {
+                batchMessages.append(onMessages.createPayload(message));
+            }
+            Object result = onMessages.invoke(
+                    ballerinaRuntime, this.nativeService.getConsumerService(), batchMessages, caller);
+            if (result instanceof BError bError) {
+                bError.printStackTrace();
+                completeBatch(messages, false);
+            } else {
+                completeBatch(messages, true);
+            }
+        } catch (Throwable e) {
+            ERR_OUT.println("Unexpected error occurred while dispatching a message batch: " + e.getMessage());
+            completeBatch(messages, false);
+            BError error = createError(JMS_ERROR, "Failed to dispatch the message batch", e);
+            Optional<InvocationPlan> onError = this.nativeService.getOnError();
+            if (onError.isEmpty()) {
+                error.printStackTrace();
+                return;
+            }
+            onError.get().invoke(ballerinaRuntime, this.nativeService.getConsumerService(), error, caller);
+        } finally {
+            this.dispatchPermits.release();
+        }
+    }
+
+    private void completeBatch(List<Message> messages, boolean success) {
+        try {
+            if (Session.SESSION_TRANSACTED == this.sessionAckMode) {
+                if (success) {
+                    this.session.commit();
+                } else {
+                    this.session.rollback();
+                }
+            } else if (Session.CLIENT_ACKNOWLEDGE == this.sessionAckMode) {
+                if (success) {
+                    // acknowledging a message acknowledges all the messages consumed by the session
+                    messages.get(messages.size() - 1).acknowledge();
+                } else {
+                    this.session.recover();
+                }
+            }
+        } catch (JMSException e) {
+            ERR_OUT.println("Error occurred while completing the message batch: " + e.getMessage());
+        }
+    }
+}
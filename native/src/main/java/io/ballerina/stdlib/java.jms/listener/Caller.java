@@ -18,19 +18,27 @@
 
 package io.ballerina.stdlib.java.jms.listener;
 
+import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.java.jms.BallerinaJmsException;
+import io.ballerina.stdlib.java.jms.Constants;
+import io.ballerina.stdlib.java.jms.MessageConverter;
 
 import java.util.Objects;
 
+import javax.jms.Destination;
 import javax.jms.JMSException;
 import javax.jms.Message;
+import javax.jms.MessageProducer;
 import javax.jms.Session;
 
 import static io.ballerina.stdlib.java.jms.CommonUtils.createError;
 import static io.ballerina.stdlib.java.jms.Constants.JMS_ERROR;
 import static io.ballerina.stdlib.java.jms.Constants.NATIVE_MESSAGE;
+import static io.ballerina.stdlib.java.jms.Constants.NATIVE_PRODUCER;
+import static io.ballerina.stdlib.java.jms.ModuleUtils.getModule;
 import static io.ballerina.stdlib.java.jms.listener.Listener.NATIVE_SESSION;
 
 /**
@@ -43,6 +51,12 @@ public class Caller {
     private Caller() {
     }
 
+    static BObject createCaller(Session session) {
+        BObject caller = ValueCreator.createObjectValue(getModule(), Constants.CALLER);
+        caller.addNativeData(NATIVE_SESSION, session);
+        return caller;
+    }
+
     public static Object commit(BObject caller) {
         Session nativeSession = (Session) caller.getNativeData(NATIVE_SESSION);
         try {
@@ -66,6 +80,40 @@ public class Caller {
         return null;
     }
 
+    public static Object reply(BObject caller, BMap<BString, Object> request, BMap<BString, Object> response) {
+        Session nativeSession = (Session) caller.getNativeData(NATIVE_SESSION);
+        Object nativeRequest = request.getNativeData(NATIVE_MESSAGE);
+        try {
+            Destination replyTo = Objects.nonNull(nativeRequest) ? ((Message) nativeRequest).getJMSReplyTo() : null;
+            if (Objects.isNull(replyTo)) {
+                return createError(JMS_ERROR, "Request message does not have a reply destination");
+            }
+            Message reply = MessageConverter.convertFromBMessage(nativeSession, response);
+            String correlationId = ((Message) nativeRequest).getJMSCorrelationID();
+            reply.setJMSCorrelationID(Objects.nonNull(correlationId) ? correlationId :
+                    ((Message) nativeRequest).getJMSMessageID());
+            getReplyProducer(caller, nativeSession).send(replyTo, reply);
+        } catch (BallerinaJmsException exception) {
+            return createError(JMS_ERROR, exception.getMessage(), exception);
+        } catch (JMSException exception) {
+            return createError(JMS_ERROR,
+                    String.format("Error occurred while sending the reply: %s", exception.getMessage()), exception);
+        }
+        return null;
+    }
+
+    private static MessageProducer getReplyProducer(BObject caller, Session session) throws JMSException {
+        synchronized (caller) {
+            MessageProducer producer = (MessageProducer) caller.getNativeData(NATIVE_PRODUCER);
+            if (Objects.isNull(producer)) {
+                // an unidentified producer is used, as the replies are sent to the destinations of the requests
+                producer = session.createProducer(null);
+                caller.addNativeData(NATIVE_PRODUCER, producer);
+            }
+            return producer;
+        }
+    }
+
     public static Object acknowledge(BMap<BString, Object> message) {
         try {
             Object nativeMessage = message.getNativeData(NATIVE_MESSAGE);
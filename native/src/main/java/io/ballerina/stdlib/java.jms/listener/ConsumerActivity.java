@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.java.jms.listener;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.jms.Message;
+import javax.jms.MessageListener;
+
+/**
+ * A {@link MessageListener} which records the message delivery activity of a consumer before handing the messages
+ * over to the dispatcher. The activity is used to decide when to add or remove consumers of a service.
+ *
+ * @since 1.2.0
+ */
+final class ConsumerActivity implements MessageListener {
+    // a message delivered within this time after the previous one was handed over was already waiting to be consumed
+    private static final long BACKLOG_DELIVERY_GAP_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final MessageListener dispatcher;
+    private final AtomicInteger backlogDeliveries = new AtomicInteger();
+    private final AtomicInteger awaitedDeliveries = new AtomicInteger();
+    private volatile long lastDeliveryTime = System.nanoTime();
+    private volatile long lastHandOverTime = System.nanoTime();
+
+    ConsumerActivity(MessageListener dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    public void onMessage(Message message) {
+        long deliveryTime = System.nanoTime();
+        if (deliveryTime - lastHandOverTime <= BACKLOG_DELIVERY_GAP_NANOS) {
+            backlogDeliveries.incrementAndGet();
+        } else {
+            awaitedDeliveries.incrementAndGet();
+        }
+        lastDeliveryTime = deliveryTime;
+        try {
+            dispatcher.onMessage(message);
+        } finally {
+            lastHandOverTime = System.nanoTime();
+        }
+    }
+
+    /**
+     * Returns whether the consumer had a backlog since the previous invocation of this method, that is, whether most
+     * of its messages were delivered as soon as the previous message was handed over, instead of being waited for.
+     *
+     * @return {@code true} if the consumer had a backlog since the last check
+     */
+    boolean checkBacklog() {
+        int backlog = backlogDeliveries.getAndSet(0);
+        int awaited = awaitedDeliveries.getAndSet(0);
+        return backlog > awaited;
+    }
+
+    long getIdleNanos() {
+        return System.nanoTime() - lastDeliveryTime;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.java.jms.listener;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * The executor on which the messages of a Ballerina JMS service are dispatched. The executor is selected by the
+ * {@code dispatchExecutor} service configuration.
+ * <ul>
+ *     <li>{@code VIRTUAL_THREAD_PER_MESSAGE} - each message is dispatched on a new virtual thread</li>
+ *     <li>{@code FIXED_POOL} - messages are dispatched on a fixed size pool of platform threads</li>
+ *     <li>{@code INLINE} - messages are dispatched on the thread which delivered them, without any thread hand-off</li>
+ * </ul>
+ *
+ * @since 1.2.0
+ */
+final class DispatchExecutor implements Executor {
+    private static final String FIXED_POOL = "FIXED_POOL";
+    private static final String INLINE = "INLINE";
+
+    private final Executor executor;
+    private final Executor detachedExecutor;
+    private final ExecutorService threadPool;
+
+    private DispatchExecutor(Executor executor, Executor detachedExecutor, ExecutorService threadPool) {
+        this.executor = executor;
+        this.detachedExecutor = detachedExecutor;
+        this.threadPool = threadPool;
+    }
+
+    static DispatchExecutor create(ServiceConfig serviceConfig) {
+        return switch (serviceConfig.dispatchExecutor()) {
+            case FIXED_POOL -> {
+                ExecutorService threadPool = Executors.newFixedThreadPool(serviceConfig.dispatchPoolSize(),
+                        Thread.ofPlatform().name("balx-jms-dispatcher-", 0).daemon().factory());
+                yield new DispatchExecutor(threadPool, threadPool, threadPool);
+            }
+            case INLINE -> new DispatchExecutor(Runnable::run, Thread::startVirtualThread, null);
+            default -> new DispatchExecutor(Thread::startVirtualThread, Thread::startVirtualThread, null);
+        };
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    /**
+     * Runs a task which is not triggered by a message delivery, such as a redelivery of a failed message. Since there
+     * is no delivery thread to run such a task on, the {@code INLINE} executor runs it on a new virtual thread. Once
+     * the executor is shut down, the task is skipped, in the same way as the redeliveries which are still pending when
+     * the service is closed.
+     *
+     * @param task The task to be run
+     */
+    void executeDetached(Runnable task) {
+        if (Objects.nonNull(threadPool) && threadPool.isShutdown()) {
+            return;
+        }
+        try {
+            detachedExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // the executor was shut down after the above check
+        }
+    }
+
+    /**
+     * Releases the threads of the executor once the already submitted messages are dispatched.
+     */
+    void shutdown() {
+        if (Objects.nonNull(threadPool)) {
+            threadPool.shutdown();
+        }
+    }
+}
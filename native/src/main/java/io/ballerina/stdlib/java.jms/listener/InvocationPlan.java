@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.java.jms.listener;
+
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.RemoteMethodType;
+import io.ballerina.runtime.api.types.ServiceType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.java.jms.BallerinaJmsException;
+import io.ballerina.stdlib.java.jms.LazyMessage;
+import io.ballerina.stdlib.java.jms.MessageConverter;
+import io.ballerina.stdlib.java.jms.MessageProjection;
+
+import java.util.Objects;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+
+import static io.ballerina.stdlib.java.jms.Constants.CALLER;
+import static io.ballerina.stdlib.java.jms.Constants.MESSAGE_BAL_RECORD_NAME;
+import static io.ballerina.stdlib.java.jms.ModuleUtils.getModule;
+
+/**
+ * Represents the pre-resolved details required to invoke a remote method of a Ballerina JMS service. The method
+ * parameters and the strand metadata are resolved once when the service is attached, so that the per-message path
+ * only has to bind the arguments and invoke the method.
+ *
+ * @since 1.2.0
+ */
+final class InvocationPlan {
+    private final String methodName;
+    private final StrandMetadata metadata;
+    private final boolean[] callerParams;
+    private final Type payloadType;
+    private final boolean lazyPayload;
+    private final MessageProjection projection;
+    private final PayloadBinding payloadBinding;
+
+    private InvocationPlan(String methodName, StrandMetadata metadata, boolean[] callerParams, Type payloadType,
+                           MessageProjection projection) {
+        this.methodName = methodName;
+        this.metadata = metadata;
+        this.callerParams = callerParams;
+        this.payloadType = payloadType;
+        this.projection = projection;
+        // the only object type accepted as the payload is `jms:LazyMessage`
+        this.lazyPayload = Objects.nonNull(payloadType) && payloadType.getTag() == TypeTags.OBJECT_TYPE_TAG;
+        this.payloadBinding = isTypedMessage(payloadType) ?
+                PayloadBinding.of((RecordType) payloadType, projection) : null;
+    }
+
+    private static boolean isTypedMessage(Type payloadType) {
+        return Objects.nonNull(payloadType) && payloadType.getTag() == TypeTags.RECORD_TYPE_TAG &&
+                !(MESSAGE_BAL_RECORD_NAME.equals(payloadType.getName()) &&
+                        getModule().equals(payloadType.getPackage()));
+    }
+
+    static InvocationPlan of(ServiceType serviceType, RemoteMethodType remoteMethod, MessageProjection projection) {
+        Parameter[] parameters = remoteMethod.getParameters();
+        boolean[] callerParams = new boolean[parameters.length];
+        Type payloadType = null;
+        for (int i = 0; i < parameters.length; i++) {
+            Type referredType = TypeUtils.getReferredType(parameters[i].type);
+            if (referredType.getTag() == TypeTags.OBJECT_TYPE_TAG && CALLER.equals(referredType.getName())) {
+                callerParams[i] = true;
+            } else {
+                payloadType = referredType;
+            }
+        }
+        boolean isConcurrentSafe = serviceType.isIsolated() && remoteMethod.isIsolated();
+        return new InvocationPlan(remoteMethod.getName(), new StrandMetadata(isConcurrentSafe, null), callerParams,
+                payloadType, projection);
+    }
+
+    /**
+     * Returns the type of the parameter to which the message payload is bound.
+     *
+     * @return The referred type of the payload parameter
+     */
+    Type getPayloadType() {
+        return payloadType;
+    }
+
+    /**
+     * Creates the payload of the method for a received message. A lazy message is created without converting the
+     * message, when the payload parameter is a {@code jms:LazyMessage}, and the message is decoded straight into the
+     * record type when the payload parameter is a user defined subtype of {@code jms:Message}. Otherwise, the message
+     * is converted including only the headers and the properties selected by the projection of the service.
+     *
+     * @param message The received JMS message
+     * @return The payload to bind to the payload parameter
+     * @throws JMSException if an error occurs while reading the message
+     * @throws BallerinaJmsException if the message contains an unsupported value
+     */
+    Object createPayload(Message message) throws JMSException, BallerinaJmsException {
+        if (lazyPayload) {
+            return LazyMessage.createLazyMessage(message);
+        }
+        if (Objects.nonNull(payloadBinding)) {
+            return payloadBinding.bind(message);
+        }
+        return MessageConverter.convertToBMessage(message, projection);
+    }
+
+    Object invoke(Runtime ballerinaRuntime, BObject service, Object payload, BObject caller) {
+        Object[] args = new Object[callerParams.length];
+        for (int i = 0; i < callerParams.length; i++) {
+            args[i] = callerParams[i] ? caller : payload;
+        }
+        return ballerinaRuntime.callMethod(service, methodName, metadata, args);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.java.jms.listener;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * An executor which runs tasks sharing the same key one after another in submission order, while running tasks with
+ * different keys concurrently. Tasks without a key are run without any ordering guarantees.
+ * <p>
+ * A task completes once the stage it returns completes, so that a task can wait for a timer without holding a thread,
+ * while the next task for the same key still waits for it.
+ *
+ * @since 1.2.0
+ */
+final class KeyOrderedExecutor {
+    private final Executor executor;
+    private final Map<String, CompletableFuture<Void>> pendingTasks = new ConcurrentHashMap<>();
+
+    KeyOrderedExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    void execute(String key, Supplier<CompletionStage<Void>> task) {
+        if (Objects.isNull(key)) {
+            executor.execute(task::get);
+            return;
+        }
+        CompletableFuture<Void> next = new CompletableFuture<>();
+        // only the tail of the chain is swapped atomically, and the task is submitted after that, so that it never
+        // runs while the map holds a lock (i.e. when the executor runs the task on the calling thread)
+        CompletableFuture<Void> previous = pendingTasks.put(key, next);
+        Runnable orderedTask = () -> {
+            CompletionStage<Void> completion = CompletableFuture.completedFuture(null);
+            try {
+                completion = task.get();
+            } finally {
+                completion.whenComplete((result, error) -> {
+                    // clean up the entry once the last submitted task for the key completes
+                    pendingTasks.remove(key, next);
+                    // a failure of the task should not prevent the execution of the next task for the same key
+                    next.complete(null);
+                });
+            }
+        };
+        if (Objects.isNull(previous)) {
+            executor.execute(orderedTask);
+        } else {
+            previous.whenComplete((result, error) -> executor.execute(orderedTask));
+        }
+    }
+}
@@ -26,20 +26,19 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.java.jms.BallerinaJmsException;
 import io.ballerina.stdlib.java.jms.LoggingExceptionListener;
 
+import java.io.PrintStream;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import javax.jms.Connection;
 import javax.jms.JMSException;
-import javax.jms.MessageConsumer;
-import javax.jms.Queue;
-import javax.jms.Session;
-import javax.jms.Topic;
 
 import static io.ballerina.stdlib.java.jms.CommonUtils.createError;
 import static io.ballerina.stdlib.java.jms.Constants.JMS_ERROR;
 import static io.ballerina.stdlib.java.jms.JmsConnection.createJmsConnection;
-import static io.ballerina.stdlib.java.jms.JmsSession.getSessionAckMode;
 
 /**
  * Native class for the Ballerina JMS Listener.
@@ -47,10 +46,12 @@ import static io.ballerina.stdlib.java.jms.JmsSession.getSessionAckMode;
  * @since 1.2.0
  */
 public final class Listener {
+    private static final PrintStream ERR_OUT = System.err;
     static final String NATIVE_CONNECTION = "native.connection";
     static final String NATIVE_SERVICE = "native.service";
     static final String NATIVE_SESSION = "native.session";
-    static final String NATIVE_CONSUMER = "native.consumer";
+    static final String NATIVE_ATTACHED_SERVICE = "native.attached.service";
+    static final String NATIVE_ATTACHED_SERVICES = "native.attached.services";
 
     private Listener() {
     }
@@ -63,6 +64,7 @@ public final class Listener {
             }
             jmsConnection.setExceptionListener(new LoggingExceptionListener());
             bListener.addNativeData(NATIVE_CONNECTION, jmsConnection);
+            bListener.addNativeData(NATIVE_ATTACHED_SERVICES, ConcurrentHashMap.<AttachedService>newKeySet());
         } catch (BallerinaJmsException e) {
             return createError(JMS_ERROR, e.getMessage(), e);
         } catch (JMSException e) {
@@ -75,66 +77,48 @@ public final class Listener {
 
     public static Object attach(Environment environment, BObject bListener, BObject bService, Object name) {
         Connection connection = (Connection) bListener.getNativeData(NATIVE_CONNECTION);
+        AttachedService attachedService = null;
         try {
             Service.validateService(bService);
             Service nativeService = new Service(bService);
-            ServiceConfig svcConfig = nativeService.getServiceConfig();
-            int sessionAckMode = getSessionAckMode(svcConfig.ackMode());
-            boolean transacted = Session.SESSION_TRANSACTED == sessionAckMode;
-            Session session = connection.createSession(transacted, sessionAckMode);
-            MessageConsumer consumer = getConsumer(session, svcConfig);
-            MessageDispatcher messageDispatcher = new MessageDispatcher(
-                    environment.getRuntime(), nativeService, session);
-            consumer.setMessageListener(messageDispatcher);
+            attachedService = new AttachedService(environment.getRuntime(), connection, nativeService);
+            attachedService.open();
             bService.addNativeData(NATIVE_SERVICE, nativeService);
-            bService.addNativeData(NATIVE_SESSION, session);
-            bService.addNativeData(NATIVE_CONSUMER, consumer);
+            bService.addNativeData(NATIVE_ATTACHED_SERVICE, attachedService);
+            getAttachedServices(bListener).add(attachedService);
         } catch (BError | JMSException e) {
+            closeQuietly(attachedService);
             String errorMsg = Objects.isNull(e.getMessage()) ? "Unknown error" : e.getMessage();
             return createError(JMS_ERROR, String.format("Failed to attach service to listener: %s", errorMsg), e);
         }
         return null;
     }
 
-    private static MessageConsumer getConsumer(Session session, ServiceConfig svcConfig)
-            throws JMSException {
-        if (svcConfig instanceof QueueConfig queueConfig) {
-            Queue queue = session.createQueue(queueConfig.queueName());
-            return session.createConsumer(queue, queueConfig.messageSelector());
+    private static void closeQuietly(AttachedService attachedService) {
+        if (Objects.isNull(attachedService)) {
+            return;
         }
-        TopicConfig topicConfig = (TopicConfig) svcConfig;
-        Topic topic = session.createTopic(topicConfig.topicName());
-        switch (topicConfig.consumerType()) {
-            case "DURABLE" -> {
-                return session.createDurableConsumer(
-                        topic, topicConfig.subscriberName(), topicConfig.messageSelector(), topicConfig.noLocal());
-            }
-            case "SHARED" -> {
-                return session.createSharedConsumer(topic, topicConfig.subscriberName(), topicConfig.messageSelector());
-            }
-            case "SHARED_DURABLE" -> {
-                return session.createSharedDurableConsumer(
-                        topic, topicConfig.subscriberName(), topicConfig.messageSelector());
-            }
-            default -> {
-                return session.createConsumer(topic, topicConfig.messageSelector(), topicConfig.noLocal());
-            }
+        try {
+            attachedService.close();
+        } catch (JMSException e) {
+            // Ignoring the error, since the original attach failure is reported to the caller
         }
     }
 
-    public static Object detach(BObject bService) {
-        Session session = (Session) bService.getNativeData(NATIVE_SESSION);
-        MessageConsumer consumer = (MessageConsumer) bService.getNativeData(NATIVE_CONSUMER);
+    @SuppressWarnings("unchecked")
+    private static Set<AttachedService> getAttachedServices(BObject bListener) {
+        return (Set<AttachedService>) bListener.getNativeData(NATIVE_ATTACHED_SERVICES);
+    }
+
+    public static Object detach(BObject bListener, BObject bService) {
+        AttachedService attachedService = (AttachedService) bService.getNativeData(NATIVE_ATTACHED_SERVICE);
         try {
-            if (Objects.isNull(session)) {
-                throw new BallerinaJmsException("Could not find the native JMS session");
-            }
-            if (Objects.isNull(consumer)) {
-                throw new BallerinaJmsException("Could not find the native JMS consumer");
+            if (Objects.isNull(attachedService)) {
+                throw new BallerinaJmsException("Could not find the native JMS consumers of the service");
             }
 
-            consumer.close();
-            session.close();
+            getAttachedServices(bListener).remove(attachedService);
+            attachedService.close();
         } catch (Exception e) {
             String errorMsg = Objects.isNull(e.getMessage()) ? "Unknown error" : e.getMessage();
             return createError(JMS_ERROR,
@@ -157,9 +141,28 @@ public final class Listener {
 
     public static Object gracefulStop(BObject bListener) {
         Connection nativeConnection = (Connection) bListener.getNativeData(NATIVE_CONNECTION);
+        Set<AttachedService> attachedServices = getAttachedServices(bListener);
         try {
+            // Stop the message delivery, while letting the in-flight messages complete using the open sessions
+            attachedServices.forEach(AttachedService::stopPolling);
             nativeConnection.stop();
+            long drainStartTime = System.nanoTime();
+            for (AttachedService attachedService : attachedServices) {
+                int timeout = attachedService.getNativeService().getServiceConfig().gracefulStopTimeoutMillis();
+                if (!attachedService.drain(drainStartTime + TimeUnit.MILLISECONDS.toNanos(timeout))) {
+                    ERR_OUT.printf("In-flight messages of a JMS service did not complete within %d milliseconds%n",
+                            timeout);
+                }
+            }
+            for (AttachedService attachedService : attachedServices) {
+                attachedService.close();
+            }
+            attachedServices.clear();
             nativeConnection.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return createError(JMS_ERROR,
+                    "Interrupted while waiting for the in-flight messages of the Ballerina JMS listener", e);
         } catch (JMSException e) {
             String errorMsg = Objects.isNull(e.getMessage()) ? "Unknown error" : e.getMessage();
             return createError(JMS_ERROR,
@@ -171,14 +174,30 @@ public final class Listener {
 
     public static Object immediateStop(BObject bListener) {
         Connection nativeConnection = (Connection) bListener.getNativeData(NATIVE_CONNECTION);
+        Set<AttachedService> attachedServices = getAttachedServices(bListener);
         try {
+            attachedServices.forEach(AttachedService::stopPolling);
             nativeConnection.stop();
+            // close the services without waiting for their in-flight messages, so that their consumers, sessions and
+            // dispatch threads are released
+            JMSException closeError = null;
+            for (AttachedService attachedService : attachedServices) {
+                try {
+                    attachedService.close();
+                } catch (JMSException e) {
+                    closeError = e;
+                }
+            }
+            attachedServices.clear();
             nativeConnection.close();
+            if (Objects.nonNull(closeError)) {
+                throw closeError;
+            }
         } catch (JMSException e) {
             String errorMsg = Objects.isNull(e.getMessage()) ? "Unknown error" : e.getMessage();
             return createError(JMS_ERROR,
-                    String.format("Error occurred while gracefully stopping the Ballerina JMS listener: %s", errorMsg),
-                    e);
+                    String.format("Error occurred while immediately stopping the Ballerina JMS listener: %s",
+                            errorMsg), e);
         }
         return null;
     }
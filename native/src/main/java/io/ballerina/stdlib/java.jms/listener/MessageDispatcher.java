@@ -19,21 +19,15 @@
 package io.ballerina.stdlib.java.jms.listener;
 
 import io.ballerina.runtime.api.Runtime;
-import io.ballerina.runtime.api.concurrent.StrandMetadata;
-import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.types.Parameter;
-import io.ballerina.runtime.api.types.RemoteMethodType;
-import io.ballerina.runtime.api.types.Type;
-import io.ballerina.runtime.api.types.TypeTags;
-import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BObject;
-import io.ballerina.stdlib.java.jms.BallerinaJmsException;
-import io.ballerina.stdlib.java.jms.Constants;
-import io.ballerina.stdlib.java.jms.MessageConverter;
 
 import java.io.PrintStream;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 import javax.jms.JMSException;
 import javax.jms.Message;
@@ -42,8 +36,6 @@ import javax.jms.Session;
 
 import static io.ballerina.stdlib.java.jms.CommonUtils.createError;
 import static io.ballerina.stdlib.java.jms.Constants.JMS_ERROR;
-import static io.ballerina.stdlib.java.jms.ModuleUtils.getModule;
-import static io.ballerina.stdlib.java.jms.listener.Listener.NATIVE_SESSION;
 
 /**
  * A {@link javax.jms.MessageListener} implementation used to dispatch messages to a Ballerina JMS service.
@@ -52,72 +44,202 @@ import static io.ballerina.stdlib.java.jms.listener.Listener.NATIVE_SESSION;
  */
 public class MessageDispatcher implements MessageListener {
     private static final PrintStream ERR_OUT = System.err;
-    private static final String ON_ERROR_METHOD = "onError";
-    private static final String ON_MESSAGE_METHOD = "onMessage";
+    private static final String CORRELATION_ID_KEY = "JMSCorrelationID";
 
     private final Runtime ballerinaRuntime;
     private final Service nativeService;
-    private final Session session;
+    private final BObject caller;
+    private final Semaphore dispatchPermits;
+    private final Semaphore inFlightPermits;
+    private final KeyOrderedExecutor dispatchExecutor;
+    private final SessionAcknowledger acknowledger;
+    private final RedeliveryHandler redelivery;
 
-    MessageDispatcher(Runtime ballerinaRuntime, Service nativeService, Session session) {
+    MessageDispatcher(Runtime ballerinaRuntime, Service nativeService, Session session, Semaphore dispatchPermits,
+                      KeyOrderedExecutor dispatchExecutor, SessionAcknowledger acknowledger,
+                      RedeliveryHandler redelivery) {
         this.ballerinaRuntime = ballerinaRuntime;
         this.nativeService = nativeService;
-        this.session = session;
+        this.caller = Caller.createCaller(session);
+        this.dispatchPermits = dispatchPermits;
+        // tracks the messages delivered by this consumer, out of the in-flight messages shared by all the consumers
+        this.inFlightPermits = new Semaphore(nativeService.getServiceConfig().maxConcurrency());
+        this.dispatchExecutor = dispatchExecutor;
+        this.acknowledger = acknowledger;
+        this.redelivery = redelivery;
     }
 
     @Override
     public void onMessage(Message message) {
-        Thread.startVirtualThread(() -> {
+        if (Objects.nonNull(this.acknowledger)) {
+            // the message is consumed by the session from now on, hence the session must not be completed until the
+            // message is processed. The session is completed by the receive loop, once this method returns.
+            this.acknowledger.onDelivery();
+        }
+        // Blocks the provider delivery thread once the in-flight limit is reached, so that the JMS provider stops
+        // delivering further messages until a dispatch slot is released.
+        try {
+            this.dispatchPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abortDispatch(message);
+            throw new IllegalStateException("Interrupted while waiting to dispatch the message", e);
+        }
+        String orderingKey;
+        try {
+            orderingKey = getOrderingKey(message);
+        } catch (JMSException e) {
+            this.dispatchPermits.release();
+            abortDispatch(message);
+            throw new IllegalStateException("Error occurred while reading the ordering key of the message", e);
+        }
+        // never blocks, since the shared permits already bound the number of in-flight messages
+        this.inFlightPermits.acquireUninterruptibly();
+        int attempt = Objects.isNull(this.redelivery) ? 1 : this.redelivery.getDeliveryAttempt(message);
+        this.dispatchExecutor.execute(orderingKey, () -> {
+            CompletableFuture<Void> completion = new CompletableFuture<>();
+            dispatch(message, attempt, completion);
+            return completion;
+        });
+    }
+
+    private void abortDispatch(Message message) {
+        if (Objects.nonNull(this.acknowledger)) {
+            // the message could not be dispatched, hence roll back or recover the session to get it redelivered
+            this.acknowledger.afterDispatch(message, false);
+        }
+    }
+
+    /**
+     * Dispatches an attempt of a message to the service, while holding a dispatch slot. If the attempt fails and the
+     * redelivery policy allows another attempt, the dispatch slot is released and the next attempt is scheduled, so
+     * that the message does not hold a thread or a dispatch slot while waiting. The message is completed, and the
+     * given completion is completed, once no further attempt is made.
+     */
+    private void dispatch(Message message, int attempt, CompletableFuture<Void> completion) {
+        boolean success = false;
+        boolean redeliveryScheduled = false;
+        try {
             Service nativeJmsSvc = this.nativeService;
+            // the failure of an attempt is only logged once no further attempt is made
+            Throwable failure = null;
+            boolean errorReturned = false;
             try {
-                boolean isConcurrentSafe = nativeJmsSvc.isOnMessageMethodIsolated();
-                StrandMetadata metadata = new StrandMetadata(isConcurrentSafe, null);
-                Object[] params = getOnMessageParams(message);
-                Object result = ballerinaRuntime.callMethod(
-                        nativeJmsSvc.getConsumerService(), ON_MESSAGE_METHOD, metadata, params);
-                notifySuccess(result);
+                InvocationPlan onMessage = nativeJmsSvc.getOnMessage();
+                Object result = onMessage.invoke(ballerinaRuntime, nativeJmsSvc.getConsumerService(),
+                        onMessage.createPayload(message), caller);
+                if (!(result instanceof BError returnedError)) {
+                    success = true;
+                    return;
+                }
+                failure = returnedError;
+                errorReturned = true;
             } catch (Throwable e) {
-                ERR_OUT.println("Unexpected error occurred while async message processing: " + e.getMessage());
-                BError error = createError(JMS_ERROR, "Failed to fetch the message", e);
-                Optional<RemoteMethodType> onError = nativeJmsSvc.getOnError();
-                if (onError.isEmpty()) {
-                    throw error;
+                failure = e;
+            }
+            if (Objects.nonNull(this.redelivery)) {
+                // The completion is left pending while the message waits, so that the messages sharing its ordering
+                // key are not dispatched before it, and the message is not completed before its next attempt.
+                redeliveryScheduled = this.redelivery.scheduleRedelivery(attempt,
+                        () -> redispatch(message, attempt + 1, completion));
+                if (redeliveryScheduled) {
+                    return;
+                }
+                if (this.redelivery.deadLetter(message)) {
+                    ERR_OUT.println("Message was forwarded to the dead-letter destination after its last attempt " +
+                            "failed: " + failure.getMessage());
+                    success = true;
+                    return;
                 }
-                boolean isConcurrentSafe = nativeJmsSvc.isOnErrorMethodIsolated();
-                StrandMetadata metadata = new StrandMetadata(isConcurrentSafe, null);
-                ballerinaRuntime.callMethod(nativeJmsSvc.getConsumerService(), ON_ERROR_METHOD, metadata, error);
             }
-        });
+            if (errorReturned) {
+                ERR_OUT.println("Error occurred while processing the message: " + failure.getMessage());
+                return;
+            }
+            ERR_OUT.println("Unexpected error occurred while async message processing: " + failure.getMessage());
+            BError error = createError(JMS_ERROR, "Failed to fetch the message", failure);
+            Optional<InvocationPlan> onError = nativeJmsSvc.getOnError();
+            // without an onError method the failure is only logged, since the dispatch may run on the delivery
+            // thread of the JMS provider, which must not receive the error
+            if (onError.isPresent()) {
+                try {
+                    onError.get().invoke(ballerinaRuntime, nativeJmsSvc.getConsumerService(), error, caller);
+                } catch (Throwable e) {
+                    ERR_OUT.println("Unexpected error occurred while handling the message failure: " +
+                            e.getMessage());
+                }
+            }
+        } finally {
+            if (!redeliveryScheduled) {
+                completeDispatch(message, success, completion);
+            }
+            // the dispatch slot is released while the message waits for its next attempt as well
+            this.dispatchPermits.release();
+        }
     }
 
-    private Object[] getOnMessageParams(Message message)
-            throws JMSException, BallerinaJmsException {
-        Parameter[] parameters = this.nativeService.getOnMessageMethod().getParameters();
-        Object[] args = new Object[parameters.length];
-        int idx = 0;
-        for (Parameter param: parameters) {
-            Type referredType = TypeUtils.getReferredType(param.type);
-            switch (referredType.getTag()) {
-                case TypeTags.OBJECT_TYPE_TAG:
-                    args[idx++] = getCaller();
-                    break;
-                case TypeTags.RECORD_TYPE_TAG:
-                    args[idx++] = MessageConverter.convertToBMessage(message);
-                    break;
-            }
+    private void redispatch(Message message, int attempt, CompletableFuture<Void> completion) {
+        try {
+            this.dispatchPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            completeDispatch(message, false, completion);
+            return;
         }
-        return args;
+        dispatch(message, attempt, completion);
     }
 
-    private BObject getCaller() {
-        BObject caller = ValueCreator.createObjectValue(getModule(), Constants.CALLER);
-        caller.addNativeData(NATIVE_SESSION, session);
-        return caller;
+    private void completeDispatch(Message message, boolean success, CompletableFuture<Void> completion) {
+        if (Objects.nonNull(this.acknowledger)) {
+            this.acknowledger.afterDispatch(message, success);
+        }
+        this.inFlightPermits.release();
+        completion.complete(null);
+    }
+
+    /**
+     * Waits until all the messages delivered by this consumer are processed by the service.
+     *
+     * @param deadline The time (as per {@link System#nanoTime()}) until which to wait for the in-flight messages
+     * @return {@code true} if all the in-flight messages were processed before the deadline
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    boolean awaitInFlight(long deadline) throws InterruptedException {
+        int maxConcurrency = this.nativeService.getServiceConfig().maxConcurrency();
+        if (!this.inFlightPermits.tryAcquire(maxConcurrency, deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+            return false;
+        }
+        this.inFlightPermits.release(maxConcurrency);
+        return true;
     }
 
-    private void notifySuccess(Object o) {
-        if (o instanceof BError) {
-            ((BError) o).printStackTrace();
+    /**
+     * Releases the receive loop if it is waiting to complete the session, so that it can be stopped.
+     */
+    void stopCompletion() {
+        if (Objects.nonNull(this.acknowledger)) {
+            this.acknowledger.stop();
+        }
+    }
+
+    /**
+     * Completes the messages which are pending to be automatically committed or acknowledged. This must only be
+     * invoked once the receive loop of the session has exited.
+     */
+    void completePending() {
+        if (Objects.nonNull(this.acknowledger)) {
+            this.acknowledger.flush();
+        }
+    }
+
+    private String getOrderingKey(Message message) throws JMSException {
+        String orderingKey = this.nativeService.getServiceConfig().orderingKey();
+        if (Objects.isNull(orderingKey)) {
+            return null;
+        }
+        if (CORRELATION_ID_KEY.equals(orderingKey)) {
+            return message.getJMSCorrelationID();
         }
+        return message.getStringProperty(orderingKey);
     }
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.java.jms.listener;
+
+import java.io.PrintStream;
+import java.util.Objects;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageConsumer;
+import javax.jms.MessageListener;
+
+/**
+ * Consumes messages from a JMS message consumer using a dedicated {@code receive} loop and hands them over to a
+ * {@link MessageListener}. This is used instead of registering the listener with the JMS provider when a service is
+ * configured to consume messages in the {@code PULL} mode.
+ * <p>
+ * The loop fetches the next message as soon as the previous one is handed over, so that a message is already available
+ * when a dispatch slot is released. The poll timeout starts small and grows while the destination is idle, and falls
+ * back to a non-blocking poll while messages keep arriving.
+ * <p>
+ * For a service with an {@code onMessages} method, the poll timeout is also bounded by the wait time of the batch being
+ * collected, so that the batch is dispatched on this loop once its wait time elapses.
+ * <p>
+ * For a service with automatic acknowledgement, the session is completed on this loop, which is the only thread using
+ * the session. A completion which becomes due while the loop is waiting for a message is done once the poll returns,
+ * and the poll timeout is bounded by the acknowledgement interval of the processed messages.
+ *
+ * @since 1.2.0
+ */
+final class MessagePoller implements Runnable {
+    private static final PrintStream ERR_OUT = System.err;
+    private static final long MIN_POLL_TIMEOUT_MILLIS = 10;
+
+    private final MessageConsumer consumer;
+    private final MessageListener messageListener;
+    private final BatchMessageDispatcher batchDispatcher;
+    private final SessionAcknowledger acknowledger;
+    private final long maxPollTimeout;
+    private final Thread pollerThread;
+    private volatile boolean running = true;
+
+    MessagePoller(MessageConsumer consumer, MessageListener messageListener, BatchMessageDispatcher batchDispatcher,
+                  SessionAcknowledger acknowledger, int maxPollTimeout) {
+        this.consumer = consumer;
+        this.messageListener = messageListener;
+        this.batchDispatcher = batchDispatcher;
+        this.acknowledger = acknowledger;
+        this.maxPollTimeout = maxPollTimeout;
+        this.pollerThread = Thread.ofVirtual().name("balx-jms-poller").unstarted(this);
+    }
+
+    void start() {
+        pollerThread.start();
+    }
+
+    void stop() {
+        this.running = false;
+    }
+
+    /**
+     * Waits until the receive loop exits, after it is stopped.
+     *
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    void awaitTermination() throws InterruptedException {
+        pollerThread.join();
+    }
+
+    @Override
+    public void run() {
+        long pollTimeout = 0;
+        while (running) {
+            long receiveTimeout = pollTimeout;
+            if (Objects.nonNull(batchDispatcher)) {
+                long untilDispatch = batchDispatcher.getMillisUntilDispatch();
+                if (untilDispatch == 0) {
+                    dispatchBatch();
+                    continue;
+                }
+                if (untilDispatch > 0 && receiveTimeout > 0) {
+                    receiveTimeout = Math.min(receiveTimeout, untilDispatch);
+                }
+            }
+            if (Objects.nonNull(acknowledger)) {
+                long untilCompletion = acknowledger.getMillisUntilCompletion();
+                if (untilCompletion == 0) {
+                    // no further message is consumed by the session until it is completed
+                    awaitCompletion();
+                    continue;
+                }
+                if (untilCompletion > 0 && receiveTimeout > 0) {
+                    receiveTimeout = Math.min(receiveTimeout, untilCompletion);
+                }
+            }
+            Message message;
+            try {
+                message = receiveTimeout == 0 ? consumer.receiveNoWait() : consumer.receive(receiveTimeout);
+            } catch (JMSException e) {
+                if (!running) {
+                    return;
+                }
+                ERR_OUT.println("Error occurred while polling for messages: " + e.getMessage());
+                pollTimeout = backOff(pollTimeout);
+                continue;
+            }
+            if (Objects.isNull(message)) {
+                pollTimeout = Math.min(Math.max(pollTimeout * 2, MIN_POLL_TIMEOUT_MILLIS), maxPollTimeout);
+                continue;
+            }
+            // messages are available, hence try a non-blocking poll first for the next message
+            pollTimeout = 0;
+            try {
+                messageListener.onMessage(message);
+            } catch (RuntimeException e) {
+                ERR_OUT.println("Unexpected error occurred while dispatching the message: " + e.getMessage());
+            }
+        }
+    }
+
+    private void dispatchBatch() {
+        try {
+            batchDispatcher.flush();
+        } catch (RuntimeException e) {
+            ERR_OUT.println("Unexpected error occurred while dispatching the message batch: " + e.getMessage());
+        }
+    }
+
+    private void awaitCompletion() {
+        try {
+            acknowledger.awaitCompletion();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.running = false;
+        }
+    }
+
+    private long backOff(long pollTimeout) {
+        try {
+            Thread.sleep(Math.max(pollTimeout, MIN_POLL_TIMEOUT_MILLIS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.running = false;
+        }
+        return Math.min(Math.max(pollTimeout * 2, MIN_POLL_TIMEOUT_MILLIS), maxPollTimeout);
+    }
+}
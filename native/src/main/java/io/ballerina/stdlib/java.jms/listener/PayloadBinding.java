@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.java.jms.listener;
+
+import io.ballerina.lib.data.jsondata.json.Native;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.utils.ValueUtils;
+import io.ballerina.runtime.api.utils.XmlUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.stdlib.java.jms.BallerinaJmsException;
+import io.ballerina.stdlib.java.jms.MessageConverter;
+import io.ballerina.stdlib.java.jms.MessageProjection;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.jms.BytesMessage;
+import javax.jms.JMSException;
+import javax.jms.MapMessage;
+import javax.jms.Message;
+import javax.jms.TextMessage;
+
+/**
+ * Binds a received JMS message to a user defined subtype of the `jms:Message` record, of which the content field is
+ * typed. The way the content is decoded and the headers and the properties to be read are resolved once from the
+ * record type when the service is attached, so that a text or a bytes message body is decoded straight into the
+ * content type without first being converted to a `jms:Message` record. A JSON body is parsed directly into the
+ * content type, without an intermediate `json` value.
+ * <p>
+ * When the content type is a union, the member which suits the received message is used: a text message is bound as
+ * a string, an XML value or data in that order, and a bytes message as a byte array, an XML value, data or a string.
+ *
+ * @since 1.2.0
+ */
+final class PayloadBinding {
+    static final String CONTENT_FIELD = "content";
+    static final String PROPERTIES_FIELD = "properties";
+    private static final BString ALLOW_DATA_PROJECTION = StringUtils.fromString("allowDataProjection");
+    private static final BString ENABLE_CONSTRAINT_VALIDATION = StringUtils.fromString("enableConstraintValidation");
+    private static final BMap<BString, Object> PARSE_OPTIONS = createParseOptions();
+
+    private enum ContentKind {
+        STRING, XML, BYTES, DATA
+    }
+
+    private final RecordType recordType;
+    private final MessageProjection projection;
+    private final boolean includeProperties;
+    private final Type contentType;
+    private final BTypedesc contentTypedesc;
+    private final Set<ContentKind> contentKinds;
+
+    private PayloadBinding(RecordType recordType, MessageProjection projection, boolean includeProperties,
+                           Type contentType, Set<ContentKind> contentKinds) {
+        this.recordType = recordType;
+        this.projection = projection;
+        this.includeProperties = includeProperties;
+        this.contentType = contentType;
+        this.contentTypedesc = ValueCreator.createTypedescValue(contentType);
+        this.contentKinds = contentKinds;
+    }
+
+    /**
+     * Creates the binding for a user defined message record type. Only the headers declared in the record type, and
+     * selected by the projection of the service, are read from the received messages.
+     *
+     * @param recordType        The message record type of the payload parameter
+     * @param serviceProjection The projection of the service, or {@code null} to include all the headers and the
+     *                          properties
+     * @return The payload binding
+     */
+    static PayloadBinding of(RecordType recordType, MessageProjection serviceProjection) {
+        Set<String> headers = new HashSet<>(recordType.getFields().keySet());
+        headers.remove(CONTENT_FIELD);
+        headers.remove(PROPERTIES_FIELD);
+        if (Objects.nonNull(serviceProjection) && Objects.nonNull(serviceProjection.headers())) {
+            headers.retainAll(serviceProjection.headers());
+        }
+        MessageProjection projection = new MessageProjection(Set.copyOf(headers),
+                Objects.isNull(serviceProjection) ? null : serviceProjection.properties());
+        boolean includeProperties = recordType.getFields().containsKey(PROPERTIES_FIELD);
+        Type contentType = TypeUtils.getReferredType(recordType.getFields().get(CONTENT_FIELD).getFieldType());
+        return new PayloadBinding(recordType, projection, includeProperties, contentType,
+                getContentKinds(contentType));
+    }
+
+    private static Set<ContentKind> getContentKinds(Type contentType) {
+        Set<ContentKind> contentKinds = EnumSet.noneOf(ContentKind.class);
+        if (contentType.getTag() == TypeTags.UNION_TAG) {
+            for (Type memberType : ((UnionType) contentType).getMemberTypes()) {
+                Type referredType = TypeUtils.getReferredType(memberType);
+                if (referredType.getTag() != TypeTags.NULL_TAG) {
+                    contentKinds.add(getContentKind(referredType));
+                }
+            }
+        } else {
+            contentKinds.add(getContentKind(contentType));
+        }
+        return contentKinds;
+    }
+
+    private static ContentKind getContentKind(Type contentType) {
+        switch (contentType.getTag()) {
+            case TypeTags.STRING_TAG:
+                return ContentKind.STRING;
+            case TypeTags.XML_TAG:
+            case TypeTags.XML_ELEMENT_TAG:
+                return ContentKind.XML;
+            case TypeTags.ARRAY_TAG:
+                Type elementType = TypeUtils.getReferredType(((ArrayType) contentType).getElementType());
+                return elementType.getTag() == TypeTags.BYTE_TAG ? ContentKind.BYTES : ContentKind.DATA;
+            default:
+                return ContentKind.DATA;
+        }
+    }
+
+    private static BMap<BString, Object> createParseOptions() {
+        // the content must match the content type as is, the same as with `cloneWithType`
+        BMap<BString, Object> options = ValueCreator.createMapValue();
+        options.put(ALLOW_DATA_PROJECTION, false);
+        options.put(ENABLE_CONSTRAINT_VALIDATION, false);
+        options.freezeDirect();
+        return options;
+    }
+
+    /**
+     * Binds a received JMS message to the message record type.
+     *
+     * @param message The received JMS message
+     * @return The Ballerina message record with the decoded content
+     * @throws JMSException if an error occurs while reading the message
+     * @throws BallerinaJmsException if the message content can not be decoded to the content type
+     */
+    BMap<BString, Object> bind(Message message) throws JMSException, BallerinaJmsException {
+        BMap<BString, Object> properties = includeProperties ?
+                MessageConverter.getMessageProperties(message, projection) : null;
+        // the value is created from the type, since the record type may be anonymous
+        BMap<BString, Object> ballerinaMessage = ValueCreator.createMapValue(recordType);
+        return MessageConverter.populateBMessage(ballerinaMessage, message, projection, properties,
+                decodeContent(message));
+    }
+
+    private Object decodeContent(Message message) throws JMSException, BallerinaJmsException {
+        if (message instanceof TextMessage textMessage) {
+            String text = textMessage.getText();
+            if (contentKinds.contains(ContentKind.STRING)) {
+                return StringUtils.fromString(text);
+            } else if (contentKinds.contains(ContentKind.XML)) {
+                return XmlUtils.parse(text);
+            } else if (contentKinds.contains(ContentKind.DATA)) {
+                return getParsedData(Native.parseString(StringUtils.fromString(text), PARSE_OPTIONS,
+                        contentTypedesc));
+            }
+            return ValueCreator.createArrayValue(text.getBytes(StandardCharsets.UTF_8));
+        } else if (message instanceof BytesMessage bytesMessage) {
+            byte[] bytes = MessageConverter.readBytes(bytesMessage);
+            if (contentKinds.contains(ContentKind.BYTES)) {
+                return ValueCreator.createArrayValue(bytes);
+            } else if (contentKinds.contains(ContentKind.XML)) {
+                return XmlUtils.parse(new ByteArrayInputStream(bytes));
+            } else if (contentKinds.contains(ContentKind.DATA)) {
+                return getParsedData(Native.parseBytes(ValueCreator.createArrayValue(bytes), PARSE_OPTIONS,
+                        contentTypedesc));
+            }
+            return StringUtils.fromString(new String(bytes, StandardCharsets.UTF_8));
+        } else if (message instanceof MapMessage && contentKinds.contains(ContentKind.DATA)) {
+            return ValueUtils.convert(MessageConverter.getMessageContent(message), contentType);
+        }
+        throw new BallerinaJmsException(String.format("Content of a %s can not be bound to the typed message content",
+                message.getClass().getTypeName()));
+    }
+
+    private static Object getParsedData(Object parsed) throws BallerinaJmsException {
+        if (parsed instanceof BError error) {
+            throw new BallerinaJmsException(
+                    String.format("Error occurred while binding the message content: %s", error.getMessage()), error);
+        }
+        return parsed;
+    }
+}
@@ -21,6 +21,7 @@ package io.ballerina.stdlib.java.jms.listener;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.java.jms.MessageProjection;
 
 /**
  * Represents configuration details for consuming messages from a JMS queue.
@@ -32,19 +33,86 @@ import io.ballerina.runtime.api.values.BString;
  * @param messageSelector An optional JMS message selector expression. Only messages with properties
  *                        matching this selector will be delivered to the consumer.
  *                        If this value is {@code null}, no selector is applied.
+ * @param maxConcurrency  The maximum number of messages which can be dispatched to the service concurrently.
+ * @param consumerCount   The number of sessions, each with its own message consumer, opened for the service.
+ * @param orderingKey     An optional message attribute used to preserve the processing order of messages sharing
+ *                        the same value. If this value is {@code null}, messages are processed in any order.
+ * @param maxBatchSize    The maximum number of messages dispatched to the {@code onMessages} method at once.
+ * @param maxBatchWaitMillis The maximum time to wait for a batch to be filled before it is dispatched.
+ * @param consumptionMode The mode in which messages are consumed. Expected values are "PUSH" and "PULL".
+ * @param pollTimeoutMillis The maximum time a consumer waits for a message in a single poll in the pull mode.
+ * @param gracefulStopTimeoutMillis The maximum time to wait for the in-flight messages when the listener is
+ *                                  gracefully stopped.
+ * @param autoAck         Whether the processed messages are automatically committed or acknowledged.
+ * @param ackBatchSize    The number of processed messages committed or acknowledged together.
+ * @param ackIntervalMillis The maximum time a processed message waits to be committed or acknowledged.
+ * @param maxConsumerCount The maximum number of consumers opened for the service when scaling the consumers.
+ * @param consumerIdleTimeoutMillis The time after which a consumer without any delivered message is removed.
+ * @param redelivery      An optional local redelivery policy for failed messages. If this value is {@code null},
+ *                        failed messages are not redelivered locally.
+ * @param dispatchExecutor The executor on which the messages are dispatched. Expected values are
+ *                         "VIRTUAL_THREAD_PER_MESSAGE", "FIXED_POOL" and "INLINE".
+ * @param dispatchPoolSize The number of threads used to dispatch the messages with the "FIXED_POOL" executor.
+ * @param projection      The headers and the properties included in the received messages. If this value is
+ *                        {@code null}, all the headers and the properties are included.
  * @since 1.2.0
  */
-public record QueueConfig(String ackMode, String queueName, String messageSelector) implements ServiceConfig {
+public record QueueConfig(String ackMode, String queueName, String messageSelector, int maxConcurrency,
+                          int consumerCount, String orderingKey, int maxBatchSize, int maxBatchWaitMillis,
+                          String consumptionMode, int pollTimeoutMillis, int gracefulStopTimeoutMillis,
+                          boolean autoAck, int ackBatchSize, int ackIntervalMillis, int maxConsumerCount,
+                          int consumerIdleTimeoutMillis, RedeliveryPolicy redelivery, String dispatchExecutor,
+                          int dispatchPoolSize, MessageProjection projection) implements ServiceConfig {
     private static final BString SESSION_ACK_MODE = StringUtils.fromString("sessionAckMode");
     private static final BString QUEUE_NAME = StringUtils.fromString("queueName");
     private static final BString MSG_SELECTOR = StringUtils.fromString("messageSelector");
+    private static final BString MAX_CONCURRENCY = StringUtils.fromString("maxConcurrency");
+    private static final BString CONSUMER_COUNT = StringUtils.fromString("consumerCount");
+    private static final BString ORDERING_KEY = StringUtils.fromString("orderingKey");
+    private static final BString MAX_BATCH_SIZE = StringUtils.fromString("maxBatchSize");
+    private static final BString MAX_BATCH_WAIT_MILLIS = StringUtils.fromString("maxBatchWaitMillis");
+    private static final BString CONSUMPTION_MODE = StringUtils.fromString("consumptionMode");
+    private static final BString POLL_TIMEOUT_MILLIS = StringUtils.fromString("pollTimeoutMillis");
+    private static final BString GRACEFUL_STOP_TIMEOUT_MILLIS = StringUtils.fromString("gracefulStopTimeoutMillis");
+    private static final BString AUTO_ACK = StringUtils.fromString("autoAck");
+    private static final BString ACK_BATCH_SIZE = StringUtils.fromString("ackBatchSize");
+    private static final BString ACK_INTERVAL_MILLIS = StringUtils.fromString("ackIntervalMillis");
+    private static final BString MAX_CONSUMER_COUNT = StringUtils.fromString("maxConsumerCount");
+    private static final BString CONSUMER_IDLE_TIMEOUT_MILLIS = StringUtils.fromString("consumerIdleTimeoutMillis");
+    private static final BString REDELIVERY = StringUtils.fromString("redelivery");
+    private static final BString DISPATCH_EXECUTOR = StringUtils.fromString("dispatchExecutor");
+    private static final BString DISPATCH_POOL_SIZE = StringUtils.fromString("dispatchPoolSize");
+    private static final BString PROJECTION = StringUtils.fromString("projection");
 
     @SuppressWarnings("unchecked")
     QueueConfig(BMap<BString, Object> configurations) {
         this(
                 configurations.getStringValue(SESSION_ACK_MODE).getValue(),
                 configurations.getStringValue(QUEUE_NAME).getValue(),
-                configurations.containsKey(MSG_SELECTOR) ? configurations.getStringValue(MSG_SELECTOR).getValue() : null
+                configurations.containsKey(MSG_SELECTOR) ?
+                        configurations.getStringValue(MSG_SELECTOR).getValue() : null,
+                configurations.getIntValue(MAX_CONCURRENCY).intValue(),
+                configurations.getIntValue(CONSUMER_COUNT).intValue(),
+                configurations.containsKey(ORDERING_KEY) ?
+                        configurations.getStringValue(ORDERING_KEY).getValue() : null,
+                configurations.getIntValue(MAX_BATCH_SIZE).intValue(),
+                configurations.getIntValue(MAX_BATCH_WAIT_MILLIS).intValue(),
+                configurations.getStringValue(CONSUMPTION_MODE).getValue(),
+                configurations.getIntValue(POLL_TIMEOUT_MILLIS).intValue(),
+                configurations.getIntValue(GRACEFUL_STOP_TIMEOUT_MILLIS).intValue(),
+                configurations.getBooleanValue(AUTO_ACK),
+                configurations.getIntValue(ACK_BATCH_SIZE).intValue(),
+                configurations.getIntValue(ACK_INTERVAL_MILLIS).intValue(),
+                configurations.containsKey(MAX_CONSUMER_COUNT) ?
+                        configurations.getIntValue(MAX_CONSUMER_COUNT).intValue() :
+                        configurations.getIntValue(CONSUMER_COUNT).intValue(),
+                configurations.getIntValue(CONSUMER_IDLE_TIMEOUT_MILLIS).intValue(),
+                configurations.containsKey(REDELIVERY) ?
+                        new RedeliveryPolicy((BMap<BString, Object>) configurations.getMapValue(REDELIVERY)) : null,
+                configurations.getStringValue(DISPATCH_EXECUTOR).getValue(),
+                configurations.getIntValue(DISPATCH_POOL_SIZE).intValue(),
+                configurations.containsKey(PROJECTION) ?
+                        MessageProjection.from((BMap<BString, Object>) configurations.getMapValue(PROJECTION)) : null
         );
     }
 }
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.java.jms.listener;
+
+import io.ballerina.stdlib.java.jms.BallerinaJmsException;
+
+import java.io.PrintStream;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.jms.Connection;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageProducer;
+import javax.jms.Session;
+
+import static io.ballerina.stdlib.java.jms.CommonUtils.getDestination;
+
+/**
+ * Applies the {@link RedeliveryPolicy} of a JMS service to the messages it consumes. A failed message is dispatched
+ * again on a timer after an exponentially growing delay, without holding a dispatch thread or a dispatch slot while it
+ * waits. Once all the attempts fail, the message is forwarded to the dead-letter destination using a session
+ * dedicated to that, since the sessions of the consumers are used by their delivery threads. The failed message is
+ * completed only after it is forwarded, hence it is forwarded at least once.
+ *
+ * @since 1.2.0
+ */
+final class RedeliveryHandler {
+    private static final PrintStream ERR_OUT = System.err;
+    private static final String DELIVERY_COUNT_PROPERTY = "JMSXDeliveryCount";
+    private static final ScheduledExecutorService REDELIVERY_TIMER = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("balx-jms-redelivery-timer").daemon().factory());
+
+    private final RedeliveryPolicy policy;
+    private final Connection connection;
+    private final Executor redeliveryExecutor;
+    private final Set<PendingRedelivery> pendingRedeliveries = ConcurrentHashMap.newKeySet();
+    private volatile boolean expedited = false;
+    private Session deadLetterSession;
+    private MessageProducer deadLetterProducer;
+
+    RedeliveryHandler(RedeliveryPolicy policy, Connection connection, Executor redeliveryExecutor) {
+        this.policy = policy;
+        this.connection = connection;
+        this.redeliveryExecutor = redeliveryExecutor;
+    }
+
+    /**
+     * Returns the attempt number of the current delivery of a message. Redeliveries done by the JMS provider are
+     * counted as well, so that a message which is repeatedly redelivered by the provider is not retried indefinitely.
+     *
+     * @param message The delivered message
+     * @return The attempt number, starting from one
+     */
+    int getDeliveryAttempt(Message message) {
+        try {
+            if (message.propertyExists(DELIVERY_COUNT_PROPERTY)) {
+                return Math.max(message.getIntProperty(DELIVERY_COUNT_PROPERTY), 1);
+            }
+            return message.getJMSRedelivered() ? 2 : 1;
+        } catch (JMSException e) {
+            return 1;
+        }
+    }
+
+    /**
+     * Schedules the next attempt of a failed message on the redelivery executor, if there are remaining attempts.
+     *
+     * @param attempt    The number of the attempt which failed
+     * @param redelivery The task which dispatches the message again
+     * @return {@code true} if the next attempt was scheduled
+     */
+    boolean scheduleRedelivery(int attempt, Runnable redelivery) {
+        if (attempt >= policy.maxAttempts()) {
+            return false;
+        }
+        PendingRedelivery pendingRedelivery = new PendingRedelivery(redelivery);
+        pendingRedeliveries.add(pendingRedelivery);
+        pendingRedelivery.schedule(expedited ? 0 : getBackoffDelay(attempt));
+        return true;
+    }
+
+    private long getBackoffDelay(int attempt) {
+        double delay = policy.initialDelayMillis() * Math.pow(policy.backoffMultiplier(), attempt - 1);
+        delay = Math.min(delay, policy.maxDelayMillis());
+        double jitter = policy.jitter() * delay;
+        if (jitter > 0) {
+            delay += ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+        }
+        return Math.max((long) delay, 0);
+    }
+
+    /**
+     * Dispatches the messages waiting for their next attempt right away, and skips the delay of the later attempts.
+     * This is used to drain the in-flight messages without waiting for the backoff delays.
+     */
+    void expedite() {
+        expedited = true;
+        pendingRedeliveries.forEach(PendingRedelivery::run);
+    }
+
+    /**
+     * Forwards a message to the dead-letter destination, if one is configured.
+     *
+     * @param message The message of which all the attempts failed
+     * @return {@code true} if the message was forwarded to the dead-letter destination
+     */
+    synchronized boolean deadLetter(Message message) {
+        if (Objects.isNull(policy.deadLetterDestination())) {
+            return false;
+        }
+        try {
+            if (Objects.isNull(deadLetterProducer)) {
+                deadLetterSession = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+                deadLetterProducer = deadLetterSession.createProducer(
+                        getDestination(deadLetterSession, policy.deadLetterDestination()));
+            }
+            deadLetterProducer.send(message);
+            return true;
+        } catch (BallerinaJmsException | JMSException e) {
+            ERR_OUT.println("Error occurred while forwarding the message to the dead-letter destination: " +
+                    e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Cancels the pending redeliveries, and closes the dead-letter session.
+     */
+    synchronized void close() {
+        pendingRedeliveries.forEach(PendingRedelivery::cancel);
+        pendingRedeliveries.clear();
+        if (Objects.isNull(deadLetterSession)) {
+            return;
+        }
+        try {
+            deadLetterSession.close();
+        } catch (JMSException e) {
+            ERR_OUT.println("Error occurred while closing the dead-letter session: " + e.getMessage());
+        } finally {
+            deadLetterSession = null;
+            deadLetterProducer = null;
+        }
+    }
+
+    private final class PendingRedelivery {
+        private final Runnable redelivery;
+        private final AtomicBoolean started = new AtomicBoolean(false);
+        private volatile ScheduledFuture<?> timer;
+
+        private PendingRedelivery(Runnable redelivery) {
+            this.redelivery = redelivery;
+        }
+
+        void schedule(long delayMillis) {
+            timer = REDELIVERY_TIMER.schedule(this::run, delayMillis, TimeUnit.MILLISECONDS);
+        }
+
+        void run() {
+            if (!started.compareAndSet(false, true)) {
+                return;
+            }
+            pendingRedeliveries.remove(this);
+            cancelTimer();
+            redeliveryExecutor.execute(redelivery);
+        }
+
+        void cancel() {
+            started.set(true);
+            cancelTimer();
+        }
+
+        private void cancelTimer() {
+            ScheduledFuture<?> scheduledTimer = timer;
+            if (Objects.nonNull(scheduledTimer)) {
+                scheduledTimer.cancel(false);
+            }
+        }
+    }
+}
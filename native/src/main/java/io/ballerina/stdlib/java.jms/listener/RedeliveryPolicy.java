@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.java.jms.listener;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * Represents the local redelivery configuration of a JMS service.
+ *
+ * @param maxAttempts           The maximum number of times a message is dispatched to the service, including the first
+ *                              delivery.
+ * @param initialDelayMillis    The delay before the first redelivery of a failed message.
+ * @param backoffMultiplier     The factor by which the delay is multiplied for each subsequent redelivery.
+ * @param maxDelayMillis        The upper bound for the delay between two redeliveries.
+ * @param jitter                The fraction by which each delay is randomly increased or decreased.
+ * @param deadLetterDestination The destination to which a message is forwarded once all the attempts fail. If this
+ *                              value is {@code null}, the message is not forwarded.
+ * @since 1.2.0
+ */
+public record RedeliveryPolicy(int maxAttempts, long initialDelayMillis, double backoffMultiplier,
+                               long maxDelayMillis, double jitter, BMap<BString, Object> deadLetterDestination) {
+    private static final BString MAX_ATTEMPTS = StringUtils.fromString("maxAttempts");
+    private static final BString INITIAL_DELAY_MILLIS = StringUtils.fromString("initialDelayMillis");
+    private static final BString BACKOFF_MULTIPLIER = StringUtils.fromString("backoffMultiplier");
+    private static final BString MAX_DELAY_MILLIS = StringUtils.fromString("maxDelayMillis");
+    private static final BString JITTER = StringUtils.fromString("jitter");
+    private static final BString DEAD_LETTER_DESTINATION = StringUtils.fromString("deadLetterDestination");
+
+    @SuppressWarnings("unchecked")
+    RedeliveryPolicy(BMap<BString, Object> configurations) {
+        this(
+                configurations.getIntValue(MAX_ATTEMPTS).intValue(),
+                configurations.getIntValue(INITIAL_DELAY_MILLIS),
+                configurations.getFloatValue(BACKOFF_MULTIPLIER),
+                configurations.getIntValue(MAX_DELAY_MILLIS),
+                configurations.getFloatValue(JITTER),
+                configurations.containsKey(DEAD_LETTER_DESTINATION) ?
+                        (BMap<BString, Object>) configurations.getMapValue(DEAD_LETTER_DESTINATION) : null
+        );
+    }
+}
@@ -20,10 +20,15 @@ package io.ballerina.stdlib.java.jms.listener;
 
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.types.RecordType;
 import io.ballerina.runtime.api.types.RemoteMethodType;
 import io.ballerina.runtime.api.types.ServiceType;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BError;
@@ -31,15 +36,19 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.java.jms.CommonUtils;
+import io.ballerina.stdlib.java.jms.MessageProjection;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ORG_NAME_SEPARATOR;
 import static io.ballerina.runtime.api.constants.RuntimeConstants.VERSION_SEPARATOR;
 import static io.ballerina.stdlib.java.jms.Constants.CALLER;
 import static io.ballerina.stdlib.java.jms.Constants.JMS_ERROR;
+import static io.ballerina.stdlib.java.jms.Constants.LAZY_MESSAGE;
 import static io.ballerina.stdlib.java.jms.Constants.MESSAGE_BAL_RECORD_NAME;
 import static io.ballerina.stdlib.java.jms.ModuleUtils.getModule;
 
@@ -53,34 +62,66 @@ import static io.ballerina.stdlib.java.jms.ModuleUtils.getModule;
 public class Service {
     private static final Type MSG_TYPE = ValueCreator.createRecordValue(getModule(), MESSAGE_BAL_RECORD_NAME)
             .getType();
+    private static final Type LAZY_MSG_TYPE = ValueCreator.createObjectValue(getModule(), LAZY_MESSAGE)
+            .getOriginalType();
     private static final Type CALLER_TYPE = ValueCreator.createObjectValue(getModule(), CALLER).getOriginalType();
     private static final Type ERROR_TYPE = TypeCreator.createErrorType(JMS_ERROR, getModule());
     private static final BString SERVICE_CONFIG_ANNOTATION = StringUtils.fromString(
             getModule().getOrg() + ORG_NAME_SEPARATOR + getModule().getName() + VERSION_SEPARATOR +
                     getModule().getMajorVersion() + VERSION_SEPARATOR + "ServiceConfig");
     private static final BString QUEUE_NAME = StringUtils.fromString("queueName");
+    private static final BString MAX_CONCURRENCY = StringUtils.fromString("maxConcurrency");
+    private static final BString CONSUMER_COUNT = StringUtils.fromString("consumerCount");
+    private static final BString CONSUMER_TYPE = StringUtils.fromString("consumerType");
+    private static final Set<String> SHARED_CONSUMER_TYPES = Set.of("SHARED", "SHARED_DURABLE");
+    private static final BString MAX_BATCH_SIZE = StringUtils.fromString("maxBatchSize");
+    private static final BString MAX_BATCH_WAIT_MILLIS = StringUtils.fromString("maxBatchWaitMillis");
+    private static final BString POLL_TIMEOUT_MILLIS = StringUtils.fromString("pollTimeoutMillis");
+    private static final BString GRACEFUL_STOP_TIMEOUT_MILLIS = StringUtils.fromString("gracefulStopTimeoutMillis");
+    private static final BString SESSION_ACK_MODE = StringUtils.fromString("sessionAckMode");
+    private static final BString AUTO_ACK = StringUtils.fromString("autoAck");
+    private static final Set<String> AUTO_ACK_SESSION_MODES = Set.of("SESSION_TRANSACTED", "CLIENT_ACKNOWLEDGE");
+    private static final BString ACK_BATCH_SIZE = StringUtils.fromString("ackBatchSize");
+    private static final BString ACK_INTERVAL_MILLIS = StringUtils.fromString("ackIntervalMillis");
+    private static final BString MAX_CONSUMER_COUNT = StringUtils.fromString("maxConsumerCount");
+    private static final BString CONSUMER_IDLE_TIMEOUT_MILLIS = StringUtils.fromString("consumerIdleTimeoutMillis");
+    private static final BString REDELIVERY = StringUtils.fromString("redelivery");
+    private static final BString MAX_ATTEMPTS = StringUtils.fromString("maxAttempts");
+    private static final BString INITIAL_DELAY_MILLIS = StringUtils.fromString("initialDelayMillis");
+    private static final BString BACKOFF_MULTIPLIER = StringUtils.fromString("backoffMultiplier");
+    private static final BString MAX_DELAY_MILLIS = StringUtils.fromString("maxDelayMillis");
+    private static final BString JITTER = StringUtils.fromString("jitter");
+    private static final BString DISPATCH_POOL_SIZE = StringUtils.fromString("dispatchPoolSize");
+    private static final BString ORDERING_KEY = StringUtils.fromString("orderingKey");
+    private static final BString DISPATCH_EXECUTOR = StringUtils.fromString("dispatchExecutor");
+    private static final String DEFAULT_DISPATCH_EXECUTOR = "VIRTUAL_THREAD_PER_MESSAGE";
     private static final String ON_MSG_METHOD = "onMessage";
+    private static final String ON_MSGS_METHOD = "onMessages";
     private static final String ON_ERR_METHOD = "onError";
 
     private final BObject consumerService;
-    private final ServiceType serviceType;
     private final ServiceConfig serviceConfig;
-    private final RemoteMethodType onMessage;
-    private final Optional<RemoteMethodType> onError;
+    private final Optional<InvocationPlan> onMessage;
+    private final Optional<InvocationPlan> onMessages;
+    private final Optional<InvocationPlan> onError;
 
     Service(BObject consumerService) {
         this.consumerService = consumerService;
         ServiceType svcType = (ServiceType) TypeUtils.getType(consumerService);
-        this.serviceType = svcType;
         BMap<BString, Object> svcConfig = (BMap<BString, Object>) svcType.getAnnotation(SERVICE_CONFIG_ANNOTATION);
         this.serviceConfig = svcConfig.containsKey(QUEUE_NAME) ?
                 new QueueConfig(svcConfig) : new TopicConfig(svcConfig);
-        this.onMessage = Stream.of(svcType.getRemoteMethods())
-                .filter(m -> ON_MSG_METHOD.equals(m.getName()))
-                .findFirst().get();
-        this.onError = Stream.of(svcType.getRemoteMethods())
-                .filter(m -> ON_ERR_METHOD.equals(m.getName()))
-                .findFirst();
+        this.onMessage = getInvocationPlan(svcType, ON_MSG_METHOD, serviceConfig.projection());
+        this.onMessages = getInvocationPlan(svcType, ON_MSGS_METHOD, serviceConfig.projection());
+        this.onError = getInvocationPlan(svcType, ON_ERR_METHOD, serviceConfig.projection());
+    }
+
+    private static Optional<InvocationPlan> getInvocationPlan(ServiceType svcType, String methodName,
+                                                              MessageProjection projection) {
+        return Stream.of(svcType.getRemoteMethods())
+                .filter(m -> methodName.equals(m.getName()))
+                .findFirst()
+                .map(m -> InvocationPlan.of(svcType, m, projection));
     }
 
     public static void validateService(BObject consumerService) throws BError {
@@ -89,6 +130,7 @@ public class Service {
         if (Objects.isNull(svcConfig)) {
             throw CommonUtils.createError(JMS_ERROR, "Service configuration annotation is required.");
         }
+        validateServiceConfig((BMap<BString, Object>) svcConfig);
 
         if (service.getResourceMethods().length > 0) {
             throw CommonUtils.createError(JMS_ERROR, "JMS service cannot have resource methods.");
@@ -100,10 +142,16 @@ public class Service {
                     JMS_ERROR, "JMS service must have exactly one or two remote methods.");
         }
 
+        boolean hasOnMessage = false;
+        boolean hasOnMessages = false;
         for (RemoteMethodType remoteMethod: remoteMethods) {
             String remoteMethodName = remoteMethod.getName();
             if (ON_MSG_METHOD.equals(remoteMethodName)) {
                 validateOnMessageMethod(remoteMethod);
+                hasOnMessage = true;
+            } else if (ON_MSGS_METHOD.equals(remoteMethodName)) {
+                validateOnMessagesMethod(remoteMethod);
+                hasOnMessages = true;
             } else if (ON_ERR_METHOD.equals(remoteMethodName)) {
                 validateOnErrorMethod(remoteMethod);
             } else {
@@ -111,6 +159,111 @@ public class Service {
                         JMS_ERROR, String.format("Invalid remote method name: %s.", remoteMethodName));
             }
         }
+
+        if (hasOnMessage && hasOnMessages) {
+            throw CommonUtils.createError(JMS_ERROR, "JMS service cannot have both onMessage and onMessages methods.");
+        }
+        if (!hasOnMessage && !hasOnMessages) {
+            throw CommonUtils.createError(JMS_ERROR, "JMS service must have either onMessage or onMessages method.");
+        }
+        if (hasOnMessages) {
+            validateBatchServiceConfig((BMap<BString, Object>) svcConfig);
+        }
+    }
+
+    private static void validateBatchServiceConfig(BMap<BString, Object> svcConfig) {
+        // batches are dispatched and completed as a whole on the receive loop of the consumer
+        if (svcConfig.containsKey(REDELIVERY)) {
+            throw CommonUtils.createError(JMS_ERROR,
+                    "redelivery is only supported for services with onMessage method.");
+        }
+        if (svcConfig.getBooleanValue(AUTO_ACK)) {
+            throw CommonUtils.createError(JMS_ERROR, "autoAck is only supported for services with onMessage method.");
+        }
+        if (svcConfig.containsKey(ORDERING_KEY)) {
+            throw CommonUtils.createError(JMS_ERROR,
+                    "orderingKey is only supported for services with onMessage method.");
+        }
+        if (!DEFAULT_DISPATCH_EXECUTOR.equals(svcConfig.getStringValue(DISPATCH_EXECUTOR).getValue())) {
+            throw CommonUtils.createError(JMS_ERROR,
+                    "dispatchExecutor is only supported for services with onMessage method.");
+        }
+    }
+
+    private static void validateServiceConfig(BMap<BString, Object> svcConfig) {
+        if (svcConfig.getIntValue(MAX_CONCURRENCY) < 1) {
+            throw CommonUtils.createError(JMS_ERROR, "maxConcurrency must be a positive integer.");
+        }
+        long consumerCount = svcConfig.getIntValue(CONSUMER_COUNT);
+        if (consumerCount < 1) {
+            throw CommonUtils.createError(JMS_ERROR, "consumerCount must be a positive integer.");
+        }
+        if (consumerCount > 1 && !svcConfig.containsKey(QUEUE_NAME) &&
+                !SHARED_CONSUMER_TYPES.contains(svcConfig.getStringValue(CONSUMER_TYPE).getValue())) {
+            throw CommonUtils.createError(JMS_ERROR,
+                    "consumerCount greater than one is only supported for queues and shared topic subscriptions.");
+        }
+        if (svcConfig.containsKey(MAX_CONSUMER_COUNT)) {
+            long maxConsumerCount = svcConfig.getIntValue(MAX_CONSUMER_COUNT);
+            if (maxConsumerCount < consumerCount) {
+                throw CommonUtils.createError(JMS_ERROR,
+                        "maxConsumerCount must be greater than or equal to consumerCount.");
+            }
+            if (maxConsumerCount > 1 && !svcConfig.containsKey(QUEUE_NAME) &&
+                    !SHARED_CONSUMER_TYPES.contains(svcConfig.getStringValue(CONSUMER_TYPE).getValue())) {
+                throw CommonUtils.createError(JMS_ERROR, "maxConsumerCount greater than one is only supported for " +
+                        "queues and shared topic subscriptions.");
+            }
+        }
+        if (svcConfig.getIntValue(CONSUMER_IDLE_TIMEOUT_MILLIS) < 1) {
+            throw CommonUtils.createError(JMS_ERROR, "consumerIdleTimeoutMillis must be a positive integer.");
+        }
+        if (svcConfig.containsKey(REDELIVERY)) {
+            validateRedeliveryPolicy((BMap<BString, Object>) svcConfig.getMapValue(REDELIVERY));
+        }
+        if (svcConfig.getIntValue(DISPATCH_POOL_SIZE) < 1) {
+            throw CommonUtils.createError(JMS_ERROR, "dispatchPoolSize must be a positive integer.");
+        }
+        if (svcConfig.getIntValue(MAX_BATCH_SIZE) < 1) {
+            throw CommonUtils.createError(JMS_ERROR, "maxBatchSize must be a positive integer.");
+        }
+        if (svcConfig.getIntValue(MAX_BATCH_WAIT_MILLIS) < 1) {
+            throw CommonUtils.createError(JMS_ERROR, "maxBatchWaitMillis must be a positive integer.");
+        }
+        if (svcConfig.getIntValue(POLL_TIMEOUT_MILLIS) < 1) {
+            throw CommonUtils.createError(JMS_ERROR, "pollTimeoutMillis must be a positive integer.");
+        }
+        if (svcConfig.getIntValue(GRACEFUL_STOP_TIMEOUT_MILLIS) < 0) {
+            throw CommonUtils.createError(JMS_ERROR, "gracefulStopTimeoutMillis must be a non-negative integer.");
+        }
+        if (svcConfig.getBooleanValue(AUTO_ACK) &&
+                !AUTO_ACK_SESSION_MODES.contains(svcConfig.getStringValue(SESSION_ACK_MODE).getValue())) {
+            throw CommonUtils.createError(JMS_ERROR,
+                    "autoAck is only supported for SESSION_TRANSACTED and CLIENT_ACKNOWLEDGE sessions.");
+        }
+        if (svcConfig.getIntValue(ACK_BATCH_SIZE) < 1) {
+            throw CommonUtils.createError(JMS_ERROR, "ackBatchSize must be a positive integer.");
+        }
+        if (svcConfig.getIntValue(ACK_INTERVAL_MILLIS) < 1) {
+            throw CommonUtils.createError(JMS_ERROR, "ackIntervalMillis must be a positive integer.");
+        }
+    }
+
+    private static void validateRedeliveryPolicy(BMap<BString, Object> redelivery) {
+        if (redelivery.getIntValue(MAX_ATTEMPTS) < 1) {
+            throw CommonUtils.createError(JMS_ERROR, "redelivery maxAttempts must be a positive integer.");
+        }
+        if (redelivery.getIntValue(INITIAL_DELAY_MILLIS) < 0 || redelivery.getIntValue(MAX_DELAY_MILLIS) < 0) {
+            throw CommonUtils.createError(JMS_ERROR, "redelivery delays must be non-negative integers.");
+        }
+        if (redelivery.getFloatValue(BACKOFF_MULTIPLIER) < 1) {
+            throw CommonUtils.createError(JMS_ERROR,
+                    "redelivery backoffMultiplier must be greater than or equal to 1.");
+        }
+        double jitter = redelivery.getFloatValue(JITTER);
+        if (jitter < 0 || jitter > 1) {
+            throw CommonUtils.createError(JMS_ERROR, "redelivery jitter must be between 0 and 1.");
+        }
     }
 
     private static void validateOnMessageMethod(RemoteMethodType onMessageMethod) {
@@ -123,15 +276,16 @@ public class Service {
         Parameter message = null;
         for (Parameter parameter : parameters) {
             Type parameterType = TypeUtils.getReferredType(parameter.type);
-            if (TypeUtils.isSameType(MSG_TYPE, parameterType)) {
+            if (TypeUtils.isSameType(MSG_TYPE, parameterType) || TypeUtils.isSameType(LAZY_MSG_TYPE, parameterType)
+                    || isTypedMessageType(parameterType)) {
                 message = parameter;
                 continue;
             }
             if (TypeUtils.isSameType(CALLER_TYPE, parameterType)) {
                 continue;
             }
-            throw CommonUtils.createError(JMS_ERROR,
-                    "onMessage method parameters must be of type 'jms:Message' or 'jms:Caller'.");
+            throw CommonUtils.createError(JMS_ERROR, "onMessage method parameters must be of type 'jms:Message', " +
+                    "a subtype of 'jms:Message' with a typed 'content' field, 'jms:LazyMessage' or 'jms:Caller'.");
         }
 
         if (Objects.isNull(message)) {
@@ -139,6 +293,58 @@ public class Service {
         }
     }
 
+    // A typed message is a record with a `content` field, of which the other fields are all optional `jms:Message`
+    // fields of the same types, since a header may be absent in the received message or excluded by the projection
+    private static boolean isTypedMessageType(Type parameterType) {
+        if (parameterType.getTag() != TypeTags.RECORD_TYPE_TAG) {
+            return false;
+        }
+        Map<String, Field> fields = ((RecordType) parameterType).getFields();
+        if (!fields.containsKey(PayloadBinding.CONTENT_FIELD)) {
+            return false;
+        }
+        Map<String, Field> messageFields = ((RecordType) MSG_TYPE).getFields();
+        for (Field field : fields.values()) {
+            if (PayloadBinding.CONTENT_FIELD.equals(field.getFieldName())) {
+                continue;
+            }
+            Field messageField = messageFields.get(field.getFieldName());
+            if (Objects.isNull(messageField) || !SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.OPTIONAL) ||
+                    !TypeUtils.isSameType(TypeUtils.getReferredType(messageField.getFieldType()),
+                            TypeUtils.getReferredType(field.getFieldType()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void validateOnMessagesMethod(RemoteMethodType onMessagesMethod) {
+        Parameter[] parameters = onMessagesMethod.getParameters();
+        if (parameters.length < 1 || parameters.length > 2) {
+            throw CommonUtils.createError(JMS_ERROR,
+                    "onMessages method can have only have either one or two parameters.");
+        }
+
+        Parameter messages = null;
+        for (Parameter parameter : parameters) {
+            Type parameterType = TypeUtils.getReferredType(parameter.type);
+            if (parameterType instanceof ArrayType arrayType &&
+                    TypeUtils.isSameType(MSG_TYPE, TypeUtils.getReferredType(arrayType.getElementType()))) {
+                messages = parameter;
+                continue;
+            }
+            if (TypeUtils.isSameType(CALLER_TYPE, parameterType)) {
+                continue;
+            }
+            throw CommonUtils.createError(JMS_ERROR,
+                    "onMessages method parameters must be of type 'jms:Message[]' or 'jms:Caller'.");
+        }
+
+        if (Objects.isNull(messages)) {
+            throw CommonUtils.createError(JMS_ERROR, "Required parameter 'jms:Message[]' can not be found.");
+        }
+    }
+
     private static void validateOnErrorMethod(RemoteMethodType onErrorMethod) {
         if (onErrorMethod.getParameters().length != 1) {
             throw CommonUtils.createError(JMS_ERROR,
@@ -152,12 +358,8 @@ public class Service {
         }
     }
 
-    public boolean isOnMessageMethodIsolated() {
-        return this.serviceType.isIsolated() && this.onMessage.isIsolated();
-    }
-
-    public boolean isOnErrorMethodIsolated() {
-        return this.onError.map(m -> this.serviceType.isIsolated() && m.isIsolated()).orElse(false);
+    public boolean isBatchService() {
+        return this.onMessages.isPresent();
     }
 
     public BObject getConsumerService() {
@@ -168,11 +370,15 @@ public class Service {
         return serviceConfig;
     }
 
-    public RemoteMethodType getOnMessageMethod() {
-        return onMessage;
+    InvocationPlan getOnMessage() {
+        return onMessage.orElseThrow();
+    }
+
+    InvocationPlan getOnMessages() {
+        return onMessages.orElseThrow();
     }
 
-    public Optional<RemoteMethodType> getOnError() {
+    Optional<InvocationPlan> getOnError() {
         return onError;
     }
 }
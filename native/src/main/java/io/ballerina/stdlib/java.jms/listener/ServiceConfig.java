@@ -18,6 +18,8 @@
 
 package io.ballerina.stdlib.java.jms.listener;
 
+import io.ballerina.stdlib.java.jms.MessageProjection;
+
 /**
  * Represents the service-level configuration for a JMS service.
  *
@@ -25,4 +27,38 @@ package io.ballerina.stdlib.java.jms.listener;
  */
 public interface ServiceConfig {
     String ackMode();
+
+    int maxConcurrency();
+
+    int consumerCount();
+
+    String orderingKey();
+
+    int maxBatchSize();
+
+    int maxBatchWaitMillis();
+
+    String consumptionMode();
+
+    int pollTimeoutMillis();
+
+    int gracefulStopTimeoutMillis();
+
+    boolean autoAck();
+
+    int ackBatchSize();
+
+    int ackIntervalMillis();
+
+    int maxConsumerCount();
+
+    int consumerIdleTimeoutMillis();
+
+    RedeliveryPolicy redelivery();
+
+    String dispatchExecutor();
+
+    int dispatchPoolSize();
+
+    MessageProjection projection();
 }
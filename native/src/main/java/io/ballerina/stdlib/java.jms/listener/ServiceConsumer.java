@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.java.jms.listener;
+
+import java.util.Objects;
+
+import javax.jms.JMSException;
+import javax.jms.MessageConsumer;
+import javax.jms.MessageListener;
+import javax.jms.Session;
+
+/**
+ * Represents a JMS session and the message consumer created on it to deliver messages to a Ballerina JMS service.
+ *
+ * @param session    The JMS session owned by this consumer
+ * @param consumer   The JMS message consumer created on the session
+ * @param dispatcher The dispatcher which delivers the consumed messages to the service
+ * @param poller     The receive loop of the consumer, or {@code null} if the messages are pushed by the JMS provider
+ * @param activity   The message delivery activity of the consumer
+ * @since 1.2.0
+ */
+record ServiceConsumer(Session session, MessageConsumer consumer, MessageListener dispatcher, MessagePoller poller,
+                       ConsumerActivity activity) {
+
+    void stopPolling() {
+        if (Objects.nonNull(poller)) {
+            poller.stop();
+        }
+        if (dispatcher instanceof MessageDispatcher messageDispatcher) {
+            messageDispatcher.stopCompletion();
+        }
+    }
+
+    /**
+     * Dispatches the partially filled message batch of the consumer. The receive loop is stopped and awaited first, so
+     * that neither the batch nor the automatically acknowledged messages are completed while the loop is consuming
+     * from the session.
+     *
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    void flush() throws InterruptedException {
+        if (Objects.isNull(poller)) {
+            return;
+        }
+        stopPolling();
+        poller.awaitTermination();
+        if (dispatcher instanceof BatchMessageDispatcher batchDispatcher) {
+            batchDispatcher.flush();
+        }
+    }
+
+    boolean awaitInFlight(long deadline) throws InterruptedException {
+        if (dispatcher instanceof MessageDispatcher messageDispatcher) {
+            return messageDispatcher.awaitInFlight(deadline);
+        }
+        return true;
+    }
+
+    void completePending() {
+        if (dispatcher instanceof MessageDispatcher messageDispatcher) {
+            messageDispatcher.completePending();
+        }
+    }
+
+    /**
+     * Stops the message delivery of the consumer, waits until the messages it delivered are processed by the service,
+     * completes the messages pending to be automatically committed or acknowledged, and then closes the session.
+     *
+     * @param deadline The time (as per {@link System#nanoTime()}) until which to wait for the in-flight messages
+     * @return {@code true} if all the in-flight messages were processed before the deadline
+     * @throws JMSException         if an error occurs while closing the consumer or the session
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    boolean drainAndClose(long deadline) throws JMSException, InterruptedException {
+        boolean drained = true;
+        try {
+            stopPolling();
+            // closing the consumer waits for the message listener in progress, and unblocks a pending receive
+            consumer.close();
+            if (Objects.nonNull(poller)) {
+                poller.awaitTermination();
+            }
+            flush();
+            drained = awaitInFlight(deadline);
+            completePending();
+        } finally {
+            session.close();
+        }
+        return drained;
+    }
+
+    void close() throws JMSException {
+        stopPolling();
+        try {
+            consumer.close();
+        } finally {
+            session.close();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.java.jms.listener;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.Session;
+
+/**
+ * Automatically commits or acknowledges the messages of a transacted or client acknowledged session based on the
+ * outcome of the service method. Successfully processed messages are committed or acknowledged together once the
+ * configured number of messages is processed or the configured interval elapses, while a failure rolls back or
+ * recovers the session.
+ * <p>
+ * A JMS session must only be used by one thread at a time, hence the messages of a service with automatic
+ * acknowledgement are always consumed through a receive loop, and the session is only completed on the thread of that
+ * loop. The dispatch threads merely record the outcome of each message. Since a commit or an acknowledgement applies
+ * to all the messages consumed by the session, a message is counted as in-flight from the moment it is received, and
+ * while a completion is due, the receive loop stops consuming until none of the received messages are waiting to be
+ * dispatched or being processed, and then completes the session.
+ * <p>
+ * A rollback or a recovery also applies to the successfully processed messages which are waiting to be completed
+ * together with the failed one, hence those messages are redelivered and processed again.
+ *
+ * @since 1.2.0
+ */
+final class SessionAcknowledger {
+    private static final PrintStream ERR_OUT = System.err;
+
+    private final Session session;
+    private final int sessionAckMode;
+    private final int ackBatchSize;
+    private final long ackIntervalNanos;
+    private int inFlightCount = 0;
+    private int processedCount = 0;
+    private boolean failed = false;
+    private boolean completionDue = false;
+    private boolean stopped = false;
+    private long completionDeadline;
+    private Message lastProcessedMessage;
+
+    SessionAcknowledger(Session session, int sessionAckMode, ServiceConfig serviceConfig) {
+        this.session = session;
+        this.sessionAckMode = sessionAckMode;
+        this.ackBatchSize = serviceConfig.ackBatchSize();
+        this.ackIntervalNanos = TimeUnit.MILLISECONDS.toNanos(serviceConfig.ackIntervalMillis());
+    }
+
+    /**
+     * Registers a message which was received from the session. This must be invoked on the receive loop before the
+     * message is handed over for dispatching, so that the session is not completed while the message waits to be
+     * processed.
+     */
+    synchronized void onDelivery() {
+        inFlightCount++;
+    }
+
+    /**
+     * Returns the time until the processed messages are due to be completed, which the receive loop uses to bound its
+     * poll timeout.
+     *
+     * @return {@code 0} if a completion is due, the remaining time (in milliseconds) until the interval of the
+     * processed messages elapses, or {@code -1} if no message is waiting to be completed
+     */
+    synchronized long getMillisUntilCompletion() {
+        if (processedCount == 0) {
+            return -1;
+        }
+        long remaining = completionDeadline - System.nanoTime();
+        if (remaining <= 0) {
+            completionDue = true;
+        }
+        if (completionDue) {
+            return 0;
+        }
+        return Math.max(1, TimeUnit.NANOSECONDS.toMillis(remaining));
+    }
+
+    /**
+     * Waits on the receive loop until all the in-flight messages are processed, and then completes the session on this
+     * thread, if a completion is due. The wait ends without completing the session once the acknowledger is stopped.
+     *
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    synchronized void awaitCompletion() throws InterruptedException {
+        while (completionDue && !stopped) {
+            if (inFlightCount == 0) {
+                complete();
+            } else {
+                wait();
+            }
+        }
+    }
+
+    /**
+     * Records the outcome of processing a message. The session is completed by the receive loop, hence this never uses
+     * the session.
+     *
+     * @param message The processed message
+     * @param success Whether the message was processed successfully
+     */
+    synchronized void afterDispatch(Message message, boolean success) {
+        inFlightCount--;
+        processedCount++;
+        lastProcessedMessage = message;
+        if (!success) {
+            failed = true;
+        }
+        if (failed || processedCount >= ackBatchSize) {
+            completionDue = true;
+        } else if (processedCount == 1) {
+            completionDeadline = System.nanoTime() + ackIntervalNanos;
+        }
+        notifyAll();
+    }
+
+    /**
+     * Releases the receive loop waiting for a completion, so that it can exit. The pending messages are completed
+     * afterwards through {@link #flush()}.
+     */
+    synchronized void stop() {
+        stopped = true;
+        notifyAll();
+    }
+
+    /**
+     * Completes the messages processed so far, without waiting for the batch size or the interval to be reached. This
+     * must only be invoked once the receive loop has exited, and does nothing while a received message is in-flight,
+     * since the completion would also apply to that message.
+     */
+    synchronized void flush() {
+        if (processedCount > 0 && inFlightCount == 0) {
+            complete();
+        }
+    }
+
+    private void complete() {
+        try {
+            if (Session.SESSION_TRANSACTED == sessionAckMode) {
+                if (failed) {
+                    session.rollback();
+                } else {
+                    session.commit();
+                }
+            } else if (failed) {
+                session.recover();
+            } else {
+                // acknowledging a message acknowledges all the messages consumed by the session
+                lastProcessedMessage.acknowledge();
+            }
+        } catch (JMSException e) {
+            ERR_OUT.println("Error occurred while completing the processed messages: " + e.getMessage());
+        } finally {
+            processedCount = 0;
+            failed = false;
+            completionDue = false;
+            lastProcessedMessage = null;
+        }
+    }
+}
@@ -18,16 +18,33 @@
 
 package io.ballerina.stdlib.java.jms.producer;
 
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BHandle;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.java.jms.BallerinaJmsException;
+import io.ballerina.stdlib.java.jms.DestinationCache;
 import io.ballerina.stdlib.java.jms.MessageConverter;
-import io.ballerina.stdlib.java.jms.Util;
+import io.ballerina.stdlib.java.jms.ModuleUtils;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import javax.jms.BytesMessage;
 import javax.jms.Destination;
 import javax.jms.JMSException;
 import javax.jms.Message;
@@ -37,33 +54,61 @@ import javax.jms.Session;
 import static io.ballerina.stdlib.java.jms.CommonUtils.createError;
 import static io.ballerina.stdlib.java.jms.CommonUtils.getDestination;
 import static io.ballerina.stdlib.java.jms.CommonUtils.getDestinationOrNull;
+import static io.ballerina.stdlib.java.jms.Constants.BALLERINA_CONNECTION;
 import static io.ballerina.stdlib.java.jms.Constants.JMS_ERROR;
+import static io.ballerina.stdlib.java.jms.Constants.NATIVE_DESTINATION_CACHE;
 import static io.ballerina.stdlib.java.jms.Constants.NATIVE_PRODUCER;
+import static io.ballerina.stdlib.java.jms.Constants.NATIVE_REQUEST_PRODUCER;
+import static io.ballerina.stdlib.java.jms.Constants.NATIVE_SEND_TRACKER;
 import static io.ballerina.stdlib.java.jms.Constants.NATIVE_SESSION;
 
 /**
  * Representation of {@link javax.jms.MessageProducer} with utility methods to invoke as inter-op functions.
  */
 public class Actions {
+    private static final BString MAX_OUTSTANDING_SENDS = StringUtils.fromString("maxOutstandingSends");
+    private static final BString DELIVERY_DELAY_MILLIS = StringUtils.fromString("deliveryDelayMillis");
+    private static final BString DISABLE_MESSAGE_ID = StringUtils.fromString("disableMessageId");
+    private static final BString DISABLE_MESSAGE_TIMESTAMP = StringUtils.fromString("disableMessageTimestamp");
+
     /**
      * Creates a {@link javax.jms.MessageProducer} object with given {@link javax.jms.Session}.
      *
      * @param producer    Ballerina producer object
      * @param session     Ballerina session object
      * @param destination Relevant JMS destination
+     * @param options     Ballerina producer options
      * @return A Ballerina `jms:Error` if the JMS provider fails to create the MessageProducer due to some
      * internal error
      */
-    public static Object init(BObject producer, BObject session, Object destination) {
+    public static Object init(BObject producer, BObject session, Object destination, BMap<BString, Object> options) {
         Session nativeSession = (Session) session.getNativeData(NATIVE_SESSION);
+        DestinationCache destinationCache = (DestinationCache) session.getNativeData(NATIVE_DESTINATION_CACHE);
+        long maxOutstandingSends = options.getIntValue(MAX_OUTSTANDING_SENDS);
+        if (maxOutstandingSends < 1 || maxOutstandingSends > Integer.MAX_VALUE) {
+            return createError(JMS_ERROR, "maxOutstandingSends must be a positive integer.");
+        }
+        if (options.containsKey(DELIVERY_DELAY_MILLIS) && options.getIntValue(DELIVERY_DELAY_MILLIS) < 0) {
+            return createError(JMS_ERROR, "deliveryDelayMillis must be a non-negative integer.");
+        }
         try {
-            Destination jmsDestination = getDestinationOrNull(nativeSession, destination);
+            SendOptions defaultSendOptions = SendOptions.from(options);
+            Destination jmsDestination = getDestinationOrNull(nativeSession, destinationCache, destination);
             MessageProducer jmsProducer = nativeSession.createProducer(jmsDestination);
+            defaultSendOptions.applyTo(jmsProducer);
+            if (options.containsKey(DELIVERY_DELAY_MILLIS)) {
+                jmsProducer.setDeliveryDelay(options.getIntValue(DELIVERY_DELAY_MILLIS));
+            }
+            jmsProducer.setDisableMessageID(options.getBooleanValue(DISABLE_MESSAGE_ID));
+            jmsProducer.setDisableMessageTimestamp(options.getBooleanValue(DISABLE_MESSAGE_TIMESTAMP));
             producer.addNativeData(NATIVE_PRODUCER, jmsProducer);
             producer.addNativeData(NATIVE_SESSION, nativeSession);
+            producer.addNativeData(NATIVE_DESTINATION_CACHE, destinationCache);
+            producer.addNativeData(BALLERINA_CONNECTION, session.getNativeData(BALLERINA_CONNECTION));
+            producer.addNativeData(NATIVE_SEND_TRACKER, new AsyncSendTracker((int) maxOutstandingSends));
         } catch (BallerinaJmsException exception) {
             return createError(JMS_ERROR, exception.getMessage(), exception);
-        } catch (JMSException exception) {
+        } catch (JMSException | UnsupportedOperationException exception) {
             return createError(JMS_ERROR,
                     String.format("Error occurred while initializing the JMS MessageProducer: %s",
                             exception.getMessage()), exception);
@@ -72,61 +117,352 @@ public class Actions {
     }
 
     /**
-     * Sends a message using the {@code MessageProducer}'s default delivery mode, priority, and time to live.
+     * Sends a message using the given delivery mode, priority, and time to live, or else the
+     * {@code MessageProducer}'s defaults.
      *
+     * @param env      Ballerina runtime environment
      * @param producer Ballerina producer object
      * @param bMessage  The Ballerina JMS message representation
+     * @param options  The Ballerina send options
      * @return A Ballerina `jms:Error` if the JMS MessageProducer fails to send the message due to some error
      */
-    public static Object send(BObject producer, BMap<BString, Object> bMessage) {
+    public static Object send(Environment env, BObject producer, BMap<BString, Object> bMessage,
+                              BMap<BString, Object> options) {
         MessageProducer nativeProducer = (MessageProducer) producer.getNativeData(NATIVE_PRODUCER);
         Session nativeSession = (Session) producer.getNativeData(NATIVE_SESSION);
-        CompletableFuture<Object> balFuture = new CompletableFuture<>();
-        Thread.startVirtualThread(() -> {
+        DestinationCache destinationCache = (DestinationCache) producer.getNativeData(NATIVE_DESTINATION_CACHE);
+        SendOptions sendOptions;
+        try {
+            sendOptions = SendOptions.from(options);
+        } catch (BallerinaJmsException exception) {
+            return createError(JMS_ERROR, exception.getMessage(), exception);
+        }
+        return env.yieldAndRun(() -> {
             try {
-                Message message = MessageConverter.convertFromBMessage(nativeSession, bMessage);
-                nativeProducer.send(message);
-                balFuture.complete(null);
+                Message message = MessageConverter.convertFromBMessage(nativeSession, destinationCache, bMessage);
+                sendOptions.send(nativeProducer, null, message);
+                return null;
             } catch (BallerinaJmsException | JMSException | UnsupportedOperationException exception) {
-                BError bError = createError(JMS_ERROR,
+                return createError(JMS_ERROR,
                         String.format("Error occurred while sending a message to the JMS provider: %s",
                                 exception.getMessage()), exception);
-                balFuture.complete(bError);
             }
         });
-        return Util.getResult(balFuture);
     }
 
     /**
-     * Sends a message to a destination for an unidentified message producer using the {@code MessageProducer}'s
-     * default delivery mode, priority, and time to live.
+     * Sends a message asynchronously using the given delivery mode, priority, and time to live, or else the
+     * {@code MessageProducer}'s defaults. This returns once the message is handed over to the JMS provider, without
+     * waiting for its acknowledgement, unless the maximum number of outstanding sends of the producer is reached.
+     *
+     * @param env      Ballerina runtime environment
+     * @param producer Ballerina producer object
+     * @param bMessage The Ballerina JMS message representation
+     * @param options  The Ballerina send options
+     * @return A Ballerina `jms:SendCompletion` to await the acknowledgement of the message, or a Ballerina `jms:Error`
+     * if the message could not be sent
+     */
+    public static Object sendAsync(Environment env, BObject producer, BMap<BString, Object> bMessage,
+                                   BMap<BString, Object> options) {
+        MessageProducer nativeProducer = (MessageProducer) producer.getNativeData(NATIVE_PRODUCER);
+        Session nativeSession = (Session) producer.getNativeData(NATIVE_SESSION);
+        DestinationCache destinationCache = (DestinationCache) producer.getNativeData(NATIVE_DESTINATION_CACHE);
+        AsyncSendTracker sendTracker = (AsyncSendTracker) producer.getNativeData(NATIVE_SEND_TRACKER);
+        SendOptions sendOptions;
+        try {
+            sendOptions = SendOptions.from(options);
+        } catch (BallerinaJmsException exception) {
+            return createError(JMS_ERROR, exception.getMessage(), exception);
+        }
+        return env.yieldAndRun(() -> {
+            CompletableFuture<BError> result = sendAsync(nativeProducer, nativeSession, destinationCache, sendTracker,
+                    bMessage, null, sendOptions);
+            // a message which could not be handed over to the provider is reported right away
+            if (result.isDone() && Objects.nonNull(result.join())) {
+                return result.join();
+            }
+            return SendCompletion.createSendCompletion(result);
+        });
+    }
+
+    /**
+     * Sends a batch of messages in a single call, to the given destination or else to the destination of the
+     * producer. On a transacted session the messages are sent synchronously and committed once at the end, and the
+     * transaction is rolled back if any of them could not be sent. On other sessions the messages are sent
+     * asynchronously, and this waits until all of them are acknowledged by the JMS provider.
      *
+     * @param env         Ballerina runtime environment
+     * @param producer    Ballerina producer object
+     * @param bMessages   The Ballerina JMS messages
+     * @param destination Relevant JMS destination, or {@code null} to use the destination of the producer
+     * @return The result of each message, which is a Ballerina `jms:Error` if the message could not be sent, or else
+     * a Ballerina `jms:Error` if the transaction could not be committed
+     */
+    @SuppressWarnings("unchecked")
+    public static Object sendBatch(Environment env, BObject producer, BArray bMessages, Object destination) {
+        MessageProducer nativeProducer = (MessageProducer) producer.getNativeData(NATIVE_PRODUCER);
+        Session nativeSession = (Session) producer.getNativeData(NATIVE_SESSION);
+        DestinationCache destinationCache = (DestinationCache) producer.getNativeData(NATIVE_DESTINATION_CACHE);
+        AsyncSendTracker sendTracker = (AsyncSendTracker) producer.getNativeData(NATIVE_SEND_TRACKER);
+        return env.yieldAndRun(() -> {
+            Destination jmsDestination;
+            try {
+                jmsDestination = getDestinationOrNull(nativeSession, destinationCache, destination);
+                if (nativeSession.getTransacted()) {
+                    return sendTransactedBatch(nativeProducer, nativeSession, destinationCache, bMessages,
+                            jmsDestination);
+                }
+            } catch (BallerinaJmsException exception) {
+                return createError(JMS_ERROR, exception.getMessage(), exception);
+            } catch (UnsupportedOperationException | JMSException exception) {
+                return createError(JMS_ERROR,
+                        String.format("Error occurred while sending a batch of messages to the JMS provider: %s",
+                                exception.getMessage()), exception);
+            }
+            List<CompletableFuture<BError>> results = new ArrayList<>(bMessages.size());
+            for (int i = 0; i < bMessages.size(); i++) {
+                results.add(sendAsync(nativeProducer, nativeSession, destinationCache, sendTracker,
+                        (BMap<BString, Object>) bMessages.getRefValue(i), jmsDestination, SendOptions.DEFAULT));
+            }
+            Object[] sendResults = new Object[results.size()];
+            for (int i = 0; i < sendResults.length; i++) {
+                sendResults[i] = results.get(i).join();
+            }
+            return ValueCreator.createArrayValue(sendResults, SendResultArrayType.TYPE);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BArray sendTransactedBatch(MessageProducer producer, Session session,
+                                              DestinationCache destinationCache, BArray bMessages,
+                                              Destination destination) throws BallerinaJmsException, JMSException {
+        try {
+            for (int i = 0; i < bMessages.size(); i++) {
+                Message message = MessageConverter.convertFromBMessage(session, destinationCache,
+                        (BMap<BString, Object>) bMessages.getRefValue(i));
+                SendOptions.DEFAULT.send(producer, destination, message);
+            }
+            session.commit();
+        } catch (BallerinaJmsException | JMSException | RuntimeException exception) {
+            try {
+                session.rollback();
+            } catch (JMSException | RuntimeException rollbackError) {
+                // the failure of the batch is reported, while the rollback failure is kept for troubleshooting
+                exception.addSuppressed(rollbackError);
+            }
+            throw exception;
+        }
+        return ValueCreator.createArrayValue(new Object[bMessages.size()], SendResultArrayType.TYPE);
+    }
+
+    private static CompletableFuture<BError> sendAsync(MessageProducer producer, Session session,
+                                                       DestinationCache destinationCache,
+                                                       AsyncSendTracker sendTracker, BMap<BString, Object> bMessage,
+                                                       Destination destination, SendOptions sendOptions) {
+        Message message;
+        try {
+            message = MessageConverter.convertFromBMessage(session, destinationCache, bMessage);
+        } catch (BallerinaJmsException | JMSException exception) {
+            return CompletableFuture.completedFuture(createError(JMS_ERROR,
+                    String.format("Error occurred while sending a message to the JMS provider: %s",
+                            exception.getMessage()), exception));
+        }
+        AsyncSendTracker.PendingSend send = sendTracker.register();
+        try {
+            sendOptions.send(producer, destination, message, send);
+        } catch (JMSException | RuntimeException exception) {
+            send.fail(createError(JMS_ERROR,
+                    String.format("Error occurred while sending a message to the JMS provider: %s",
+                            exception.getMessage()), exception));
+        }
+        return send.getResult();
+    }
+
+    /**
+     * Sends a message to a destination for an unidentified message producer using the given delivery mode, priority,
+     * and time to live, or else the {@code MessageProducer}'s defaults.
+     *
+     * @param env         Ballerina runtime environment
      * @param producer    Ballerina producer object
      * @param destination Relevant JMS destination
      * @param bMessage  The Ballerina JMS message representation
+     * @param options     The Ballerina send options
      * @return A Ballerina `jms:Error` if the JMS MessageProducer fails to send the message due to some error
      */
-    public static Object sendTo(BObject producer, BMap<BString, Object> destination, BMap<BString, Object> bMessage) {
+    public static Object sendTo(Environment env, BObject producer, BMap<BString, Object> destination,
+                                BMap<BString, Object> bMessage, BMap<BString, Object> options) {
         MessageProducer nativeProducer = (MessageProducer) producer.getNativeData(NATIVE_PRODUCER);
         Session nativeSession = (Session) producer.getNativeData(NATIVE_SESSION);
-        CompletableFuture<Object> balFuture = new CompletableFuture<>();
-        Thread.startVirtualThread(() -> {
+        DestinationCache destinationCache = (DestinationCache) producer.getNativeData(NATIVE_DESTINATION_CACHE);
+        SendOptions sendOptions;
+        try {
+            sendOptions = SendOptions.from(options);
+        } catch (BallerinaJmsException exception) {
+            return createError(JMS_ERROR, exception.getMessage(), exception);
+        }
+        return env.yieldAndRun(() -> {
             try {
-                Destination jmsDestination = getDestination(nativeSession, destination);
-                Message message = MessageConverter.convertFromBMessage(nativeSession, bMessage);
-                nativeProducer.send(jmsDestination, message);
-                balFuture.complete(null);
+                Destination jmsDestination = getDestination(nativeSession, destinationCache, destination);
+                Message message = MessageConverter.convertFromBMessage(nativeSession, destinationCache, bMessage);
+                sendOptions.send(nativeProducer, jmsDestination, message);
+                return null;
             } catch (BallerinaJmsException exception) {
-                BError bError = createError(JMS_ERROR, exception.getMessage(), exception);
-                balFuture.complete(bError);
+                return createError(JMS_ERROR, exception.getMessage(), exception);
             } catch (UnsupportedOperationException | JMSException exception) {
-                BError bError = createError(JMS_ERROR,
+                return createError(JMS_ERROR,
                         String.format("Error occurred while sending a message to the JMS provider: %s",
                                 exception.getMessage()), exception);
-                balFuture.complete(bError);
             }
         });
-        return Util.getResult(balFuture);
+    }
+
+    /**
+     * Creates an empty bytes message with the given headers, to which the content is written in chunks.
+     *
+     * @param producer Ballerina producer object
+     * @param headers  The Ballerina message headers record
+     * @return A handle to the bytes message, or a Ballerina `jms:Error` if the message could not be created
+     */
+    public static Object createBytesMessage(BObject producer, BMap<BString, Object> headers) {
+        Session nativeSession = (Session) producer.getNativeData(NATIVE_SESSION);
+        DestinationCache destinationCache = (DestinationCache) producer.getNativeData(NATIVE_DESTINATION_CACHE);
+        try {
+            BytesMessage message = nativeSession.createBytesMessage();
+            MessageConverter.setMessageHeaders(nativeSession, destinationCache, message, headers);
+            return ValueCreator.createHandleValue(message);
+        } catch (BallerinaJmsException exception) {
+            return createError(JMS_ERROR, exception.getMessage(), exception);
+        } catch (JMSException exception) {
+            return createError(JMS_ERROR,
+                    String.format("Error occurred while creating the bytes message: %s", exception.getMessage()),
+                    exception);
+        }
+    }
+
+    /**
+     * Appends a chunk of content to a bytes message created by {@link #createBytesMessage}.
+     *
+     * @param producer Ballerina producer object
+     * @param message  Handle to the bytes message
+     * @param chunk    The chunk of content
+     * @return A Ballerina `jms:Error` if the chunk could not be written
+     */
+    public static Object writeBytes(BObject producer, BHandle message, BArray chunk) {
+        try {
+            ((BytesMessage) message.getValue()).writeBytes(chunk.getBytes());
+        } catch (JMSException exception) {
+            return createError(JMS_ERROR,
+                    String.format("Error occurred while writing the message content: %s", exception.getMessage()),
+                    exception);
+        }
+        return null;
+    }
+
+    /**
+     * Sends a bytes message created by {@link #createBytesMessage} using the {@code MessageProducer}'s default
+     * delivery mode, priority, and time to live.
+     *
+     * @param env      Ballerina runtime environment
+     * @param producer Ballerina producer object
+     * @param message  Handle to the bytes message
+     * @return A Ballerina `jms:Error` if the JMS MessageProducer fails to send the message due to some error
+     */
+    public static Object sendBytesMessage(Environment env, BObject producer, BHandle message) {
+        MessageProducer nativeProducer = (MessageProducer) producer.getNativeData(NATIVE_PRODUCER);
+        return env.yieldAndRun(() -> {
+            try {
+                nativeProducer.send((BytesMessage) message.getValue());
+                return null;
+            } catch (JMSException | UnsupportedOperationException exception) {
+                return createError(JMS_ERROR,
+                        String.format("Error occurred while sending a message to the JMS provider: %s",
+                                exception.getMessage()), exception);
+            }
+        });
+    }
+
+    /**
+     * Sends a request message to a destination and waits for its reply. The reply is received on the reply queue
+     * shared by all the requests sent over the connection of the producer, and is matched with the request using its
+     * {@code JMSCorrelationID}. The correlation ID of the request message is used if it is set, or else a unique
+     * correlation ID is generated. A request fails right away if another request with the same correlation ID is
+     * still waiting for a reply over the connection. The request is sent with the delivery mode, priority and time to
+     * live of the producer, but through an unidentified producer of the session, since the producer may be bound to
+     * another destination. Transacted sessions are rejected, since their requests would not be delivered before the
+     * transaction is committed, and hence their replies could never be received.
+     *
+     * @param env         Ballerina runtime environment
+     * @param producer    Ballerina producer object
+     * @param destination Relevant JMS destination
+     * @param bMessage    The Ballerina JMS request message representation
+     * @param timeout     The time to wait for the reply (in milliseconds)
+     * @return The reply message, or a Ballerina `jms:Error` if the request could not be sent or the reply was not
+     * received within the timeout
+     */
+    public static Object requestReply(Environment env, BObject producer, BMap<BString, Object> destination,
+                                      BMap<BString, Object> bMessage, long timeout) {
+        MessageProducer nativeProducer = (MessageProducer) producer.getNativeData(NATIVE_PRODUCER);
+        Session nativeSession = (Session) producer.getNativeData(NATIVE_SESSION);
+        DestinationCache destinationCache = (DestinationCache) producer.getNativeData(NATIVE_DESTINATION_CACHE);
+        BObject connection = (BObject) producer.getNativeData(BALLERINA_CONNECTION);
+        try {
+            if (nativeSession.getTransacted()) {
+                return createError(JMS_ERROR, "Request-reply is not supported on a transacted session, since the " +
+                        "request is not delivered until the transaction is committed.");
+            }
+        } catch (JMSException exception) {
+            return createError(JMS_ERROR,
+                    String.format("Error occurred while sending a request to the JMS provider: %s",
+                            exception.getMessage()), exception);
+        }
+        return env.yieldAndRun(() -> {
+            String correlationId = null;
+            ReplyRouter replyRouter = null;
+            CompletableFuture<Message> reply = null;
+            try {
+                replyRouter = ReplyRouter.getReplyRouter(connection);
+                Destination jmsDestination = getDestination(nativeSession, destinationCache, destination);
+                Message message = MessageConverter.convertFromBMessage(nativeSession, destinationCache, bMessage);
+                correlationId = Objects.nonNull(message.getJMSCorrelationID()) ?
+                        message.getJMSCorrelationID() : UUID.randomUUID().toString();
+                message.setJMSCorrelationID(correlationId);
+                message.setJMSReplyTo(replyRouter.getReplyDestination());
+                reply = replyRouter.register(correlationId);
+                getRequestProducer(producer, nativeSession).send(jmsDestination, message,
+                        nativeProducer.getDeliveryMode(), nativeProducer.getPriority(),
+                        nativeProducer.getTimeToLive());
+                return MessageConverter.convertToBMessage(reply.get(timeout, TimeUnit.MILLISECONDS));
+            } catch (BallerinaJmsException exception) {
+                return createError(JMS_ERROR, exception.getMessage(), exception);
+            } catch (UnsupportedOperationException | JMSException exception) {
+                return createError(JMS_ERROR,
+                        String.format("Error occurred while sending a request to the JMS provider: %s",
+                                exception.getMessage()), exception);
+            } catch (TimeoutException exception) {
+                return createError(JMS_ERROR,
+                        String.format("Reply was not received within %d milliseconds", timeout), exception);
+            } catch (InterruptedException | ExecutionException exception) {
+                return createError(JMS_ERROR,
+                        String.format("Error occurred while waiting for the reply: %s", exception.getMessage()),
+                        exception);
+            } finally {
+                if (Objects.nonNull(reply)) {
+                    replyRouter.evict(correlationId, reply);
+                }
+            }
+        });
+    }
+
+    private static MessageProducer getRequestProducer(BObject producer, Session session) throws JMSException {
+        synchronized (producer) {
+            MessageProducer requestProducer = (MessageProducer) producer.getNativeData(NATIVE_REQUEST_PRODUCER);
+            if (Objects.isNull(requestProducer)) {
+                // an unidentified producer is used, as the requests are sent to the given destinations
+                requestProducer = session.createProducer(null);
+                producer.addNativeData(NATIVE_REQUEST_PRODUCER, requestProducer);
+            }
+            return requestProducer;
+        }
     }
 
     /**
@@ -139,6 +475,12 @@ public class Actions {
         MessageProducer nativeProducer = (MessageProducer) producer.getNativeData(NATIVE_PRODUCER);
         try {
             nativeProducer.close();
+            synchronized (producer) {
+                MessageProducer requestProducer = (MessageProducer) producer.getNativeData(NATIVE_REQUEST_PRODUCER);
+                if (Objects.nonNull(requestProducer)) {
+                    requestProducer.close();
+                }
+            }
         } catch (JMSException exception) {
             return createError(JMS_ERROR,
                     String.format("Error occurred while closing the message produce: %s", exception.getMessage()),
@@ -146,4 +488,13 @@ public class Actions {
         }
         return null;
     }
+
+    /**
+     * Holds the `(jms:Error?)[]` type of the batch send results, which is resolved only after the module is
+     * initialized.
+     */
+    private static final class SendResultArrayType {
+        private static final ArrayType TYPE = TypeCreator.createArrayType(TypeCreator.createUnionType(
+                TypeCreator.createErrorType(JMS_ERROR, ModuleUtils.getModule()), PredefinedTypes.TYPE_NULL));
+    }
 }
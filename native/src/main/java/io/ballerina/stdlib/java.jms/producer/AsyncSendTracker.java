@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.java.jms.producer;
+
+import io.ballerina.runtime.api.values.BError;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+import javax.jms.CompletionListener;
+import javax.jms.Message;
+
+import static io.ballerina.stdlib.java.jms.CommonUtils.createError;
+import static io.ballerina.stdlib.java.jms.Constants.JMS_ERROR;
+
+/**
+ * Tracks the messages sent asynchronously by a producer, which are waiting for the acknowledgement of the JMS
+ * provider. The number of outstanding sends is limited, so that a caller sending faster than the provider
+ * acknowledges waits for an outstanding send to complete. The sends are completed in the order in which they were
+ * sent, even if the provider notifies their completions out of order.
+ *
+ * @since 1.2.0
+ */
+final class AsyncSendTracker {
+    private final Semaphore permits;
+    private final Deque<PendingSend> pendingSends = new ArrayDeque<>();
+
+    AsyncSendTracker(int maxOutstandingSends) {
+        this.permits = new Semaphore(maxOutstandingSends);
+    }
+
+    /**
+     * Registers a new asynchronous send, waiting until the number of outstanding sends is below the limit.
+     *
+     * @return The pending send, to be used as the completion listener of the send
+     */
+    PendingSend register() {
+        permits.acquireUninterruptibly();
+        PendingSend send = new PendingSend();
+        synchronized (this) {
+            pendingSends.addLast(send);
+        }
+        return send;
+    }
+
+    private void complete(PendingSend send, BError error) {
+        synchronized (this) {
+            if (send.done) {
+                return;
+            }
+            send.done = true;
+            send.error = error;
+            // complete the sends in order, up to the first send which is still waiting for the provider
+            while (!pendingSends.isEmpty() && pendingSends.peekFirst().done) {
+                PendingSend completed = pendingSends.pollFirst();
+                completed.result.complete(completed.error);
+            }
+        }
+        permits.release();
+    }
+
+    /**
+     * Represents a message sent asynchronously, which is completed with {@code null} once the provider acknowledges
+     * it, or else with a Ballerina `jms:Error`.
+     */
+    final class PendingSend implements CompletionListener {
+        private final CompletableFuture<BError> result = new CompletableFuture<>();
+        private boolean done = false;
+        private BError error;
+
+        CompletableFuture<BError> getResult() {
+            return result;
+        }
+
+        /**
+         * Completes the send with an error, when the message could not be handed over to the provider.
+         *
+         * @param error The Ballerina `jms:Error`
+         */
+        void fail(BError error) {
+            complete(this, error);
+        }
+
+        @Override
+        public void onCompletion(Message message) {
+            complete(this, null);
+        }
+
+        @Override
+        public void onException(Message message, Exception exception) {
+            complete(this, createError(JMS_ERROR, String.format(
+                    "Error occurred while sending a message to the JMS provider: %s", exception.getMessage()),
+                    exception));
+        }
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.java.jms.producer;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.java.jms.BallerinaJmsException;
+import io.ballerina.stdlib.java.jms.DestinationCache;
+import io.ballerina.stdlib.java.jms.LoggingExceptionListener;
+import io.ballerina.stdlib.java.jms.MessageConverter;
+
+import java.io.PrintStream;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.jms.Connection;
+import javax.jms.Destination;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageProducer;
+import javax.jms.Session;
+
+import static io.ballerina.stdlib.java.jms.CommonUtils.createError;
+import static io.ballerina.stdlib.java.jms.CommonUtils.getDestination;
+import static io.ballerina.stdlib.java.jms.CommonUtils.getDestinationOrNull;
+import static io.ballerina.stdlib.java.jms.Constants.JMS_ERROR;
+import static io.ballerina.stdlib.java.jms.Constants.NATIVE_CONNECTION;
+import static io.ballerina.stdlib.java.jms.Constants.NATIVE_PRODUCER_POOL;
+
+/**
+ * Representation of the Ballerina `jms:ProducerPool` client, which keeps a pool of JMS sessions, each with its own
+ * producer. Since a JMS session must not be used by multiple threads at once, each send leases a producer from the
+ * pool and returns it afterwards, so that the sends of concurrent strands are done in parallel on different sessions.
+ * <p>
+ * The sessions are opened on demand up to the pool size, and a send waits for a producer to be returned when all of
+ * them are in use. A producer of which a send failed is discarded, and the idle producers are checked to be still open
+ * before they are leased, so that a broken session is replaced with a new one. Since an open session does not
+ * guarantee a working connection, the pool also listens for the failures of the connection reported by the JMS
+ * provider, and discards all the sessions opened before a failure.
+ *
+ * @since 1.2.0
+ */
+public final class ProducerPool {
+    private static final PrintStream ERR_OUT = System.err;
+    private static final BString POOL_SIZE = StringUtils.fromString("poolSize");
+    private static final BString DESTINATION = StringUtils.fromString("destination");
+    private static final BString MAX_WAIT_MILLIS = StringUtils.fromString("maxWaitMillis");
+    private static final BString TEST_ON_LEASE = StringUtils.fromString("testOnLease");
+
+    private final Connection connection;
+    private final BMap<BString, Object> destination;
+    private final SendOptions defaultSendOptions;
+    private final long maxWaitMillis;
+    private final boolean testOnLease;
+    private final Semaphore leases;
+    private final Deque<PooledProducer> idleProducers = new ConcurrentLinkedDeque<>();
+    // incremented on each connection failure, so that the sessions opened before the failure are discarded
+    private final AtomicInteger connectionGeneration = new AtomicInteger();
+    private final Runnable failureHandler = this::onConnectionFailure;
+    private final LoggingExceptionListener connectionListener;
+    private volatile boolean closed = false;
+
+    private ProducerPool(Connection connection, BMap<BString, Object> destination, SendOptions defaultSendOptions,
+                         int poolSize, long maxWaitMillis, boolean testOnLease,
+                         LoggingExceptionListener connectionListener) {
+        this.connection = connection;
+        this.destination = destination;
+        this.defaultSendOptions = defaultSendOptions;
+        this.maxWaitMillis = maxWaitMillis;
+        this.testOnLease = testOnLease;
+        this.leases = new Semaphore(poolSize);
+        this.connectionListener = connectionListener;
+    }
+
+    /**
+     * Creates a producer pool for the given connection. No session is opened until the first send.
+     *
+     * @param pool       Ballerina producer pool object
+     * @param connection Ballerina connection object
+     * @param config     Ballerina producer pool configuration
+     * @return A Ballerina `jms:Error` if the configuration is invalid
+     */
+    @SuppressWarnings("unchecked")
+    public static Object init(BObject pool, BObject connection, BMap<BString, Object> config) {
+        long poolSize = config.getIntValue(POOL_SIZE);
+        if (poolSize < 1 || poolSize > Integer.MAX_VALUE) {
+            return createError(JMS_ERROR, "poolSize must be a positive integer.");
+        }
+        long maxWaitMillis = config.getIntValue(MAX_WAIT_MILLIS);
+        if (maxWaitMillis < 0) {
+            return createError(JMS_ERROR, "maxWaitMillis must be a non-negative integer.");
+        }
+        SendOptions defaultSendOptions;
+        try {
+            defaultSendOptions = SendOptions.from(config);
+        } catch (BallerinaJmsException exception) {
+            return createError(JMS_ERROR, exception.getMessage(), exception);
+        }
+        BMap<BString, Object> destination = config.containsKey(DESTINATION) ?
+                (BMap<BString, Object>) config.getMapValue(DESTINATION) : null;
+        Connection nativeConnection = (Connection) connection.getNativeData(NATIVE_CONNECTION);
+        LoggingExceptionListener connectionListener;
+        try {
+            // the listener set on the connection when it was created, which is shared by all the pools of it
+            connectionListener = nativeConnection.getExceptionListener() instanceof LoggingExceptionListener listener ?
+                    listener : null;
+        } catch (JMSException exception) {
+            return createError(JMS_ERROR,
+                    String.format("Error occurred while initializing the producer pool: %s", exception.getMessage()),
+                    exception);
+        }
+        ProducerPool producerPool = new ProducerPool(nativeConnection, destination, defaultSendOptions,
+                (int) poolSize, maxWaitMillis, config.getBooleanValue(TEST_ON_LEASE), connectionListener);
+        if (Objects.nonNull(connectionListener)) {
+            connectionListener.addFailureHandler(producerPool.failureHandler);
+        }
+        pool.addNativeData(NATIVE_PRODUCER_POOL, producerPool);
+        return null;
+    }
+
+    /**
+     * Sends a message to the destination of the pool, using a pooled producer.
+     *
+     * @param env      Ballerina runtime environment
+     * @param pool     Ballerina producer pool object
+     * @param bMessage The Ballerina JMS message representation
+     * @param options  The Ballerina send options
+     * @return A Ballerina `jms:Error` if the message could not be sent
+     */
+    public static Object send(Environment env, BObject pool, BMap<BString, Object> bMessage,
+                              BMap<BString, Object> options) {
+        return send(env, pool, null, bMessage, options);
+    }
+
+    /**
+     * Sends a message to a given destination, using a pooled producer.
+     *
+     * @param env         Ballerina runtime environment
+     * @param pool        Ballerina producer pool object
+     * @param destination Relevant JMS destination
+     * @param bMessage    The Ballerina JMS message representation
+     * @param options     The Ballerina send options
+     * @return A Ballerina `jms:Error` if the message could not be sent
+     */
+    public static Object sendTo(Environment env, BObject pool, BMap<BString, Object> destination,
+                                BMap<BString, Object> bMessage, BMap<BString, Object> options) {
+        return send(env, pool, destination, bMessage, options);
+    }
+
+    private static Object send(Environment env, BObject pool, BMap<BString, Object> destination,
+                               BMap<BString, Object> bMessage, BMap<BString, Object> options) {
+        ProducerPool producerPool = (ProducerPool) pool.getNativeData(NATIVE_PRODUCER_POOL);
+        SendOptions sendOptions;
+        try {
+            sendOptions = SendOptions.from(options);
+        } catch (BallerinaJmsException exception) {
+            return createError(JMS_ERROR, exception.getMessage(), exception);
+        }
+        return env.yieldAndRun(() -> {
+            PooledProducer pooledProducer;
+            try {
+                pooledProducer = producerPool.lease();
+            } catch (BallerinaJmsException exception) {
+                return createError(JMS_ERROR, exception.getMessage(), exception);
+            } catch (JMSException exception) {
+                return createError(JMS_ERROR,
+                        String.format("Error occurred while opening a pooled JMS producer: %s",
+                                exception.getMessage()), exception);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return createError(JMS_ERROR, "Interrupted while waiting for a pooled JMS producer", exception);
+            }
+            boolean broken = false;
+            try {
+                Session session = pooledProducer.session();
+                DestinationCache destinationCache = pooledProducer.destinationCache();
+                Destination jmsDestination = Objects.isNull(destination) ? null :
+                        getDestination(session, destinationCache, destination);
+                Message message = MessageConverter.convertFromBMessage(session, destinationCache, bMessage);
+                sendOptions.send(pooledProducer.producer(), jmsDestination, message);
+                return null;
+            } catch (BallerinaJmsException exception) {
+                return createError(JMS_ERROR, exception.getMessage(), exception);
+            } catch (UnsupportedOperationException | JMSException exception) {
+                // the session may no longer be usable, hence it is replaced with a new one
+                broken = exception instanceof JMSException;
+                return createError(JMS_ERROR,
+                        String.format("Error occurred while sending a message to the JMS provider: %s",
+                                exception.getMessage()), exception);
+            } finally {
+                producerPool.release(pooledProducer, broken);
+            }
+        });
+    }
+
+    private PooledProducer lease() throws BallerinaJmsException, JMSException, InterruptedException {
+        if (closed) {
+            throw new BallerinaJmsException("Producer pool is closed");
+        }
+        if (!leases.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+            throw new BallerinaJmsException(String.format(
+                    "Pooled JMS producer was not available within %d milliseconds", maxWaitMillis));
+        }
+        if (closed) {
+            // pass the lease on, so that the next waiting send is woken up as well
+            leases.release();
+            throw new BallerinaJmsException("Producer pool is closed");
+        }
+        try {
+            PooledProducer pooledProducer = idleProducers.pollFirst();
+            while (Objects.nonNull(pooledProducer)) {
+                boolean usable = pooledProducer.generation() == connectionGeneration.get();
+                if (usable && (!testOnLease || pooledProducer.isHealthy())) {
+                    return pooledProducer;
+                }
+                pooledProducer.close();
+                pooledProducer = idleProducers.pollFirst();
+            }
+            return createProducer();
+        } catch (BallerinaJmsException | JMSException | RuntimeException exception) {
+            leases.release();
+            throw exception;
+        }
+    }
+
+    private PooledProducer createProducer() throws BallerinaJmsException, JMSException {
+        int generation = connectionGeneration.get();
+        Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+        try {
+            MessageProducer producer = session.createProducer(getDestinationOrNull(session, destination));
+            defaultSendOptions.applyTo(producer);
+            return new PooledProducer(session, new DestinationCache(session), producer, generation);
+        } catch (BallerinaJmsException | JMSException | RuntimeException exception) {
+            session.close();
+            throw exception;
+        }
+    }
+
+    private void release(PooledProducer pooledProducer, boolean broken) {
+        if (broken || closed || pooledProducer.generation() != connectionGeneration.get()) {
+            pooledProducer.close();
+        } else {
+            // the most recently used producer is leased first, so that the idle sessions stay idle
+            idleProducers.offerFirst(pooledProducer);
+            if (closed) {
+                // the pool was closed while the producer was being returned
+                closeIdleProducers();
+            }
+        }
+        leases.release();
+    }
+
+    private void onConnectionFailure() {
+        connectionGeneration.incrementAndGet();
+        // the producers which are in use are discarded once they are returned
+        closeIdleProducers();
+    }
+
+    private void closeIdleProducers() {
+        PooledProducer pooledProducer = idleProducers.pollFirst();
+        while (Objects.nonNull(pooledProducer)) {
+            pooledProducer.close();
+            pooledProducer = idleProducers.pollFirst();
+        }
+    }
+
+    /**
+     * Closes the idle sessions of the pool. The sessions which are in use are closed once their sends complete, and
+     * the sends waiting for a producer fail right away.
+     *
+     * @param pool Ballerina producer pool object
+     * @return A Ballerina `jms:Error` if the pool could not be closed
+     */
+    public static Object close(BObject pool) {
+        ProducerPool producerPool = (ProducerPool) pool.getNativeData(NATIVE_PRODUCER_POOL);
+        producerPool.closed = true;
+        if (Objects.nonNull(producerPool.connectionListener)) {
+            producerPool.connectionListener.removeFailureHandler(producerPool.failureHandler);
+        }
+        producerPool.closeIdleProducers();
+        // wakes up a waiting send, which passes the lease on to the next one after failing
+        producerPool.leases.release();
+        return null;
+    }
+
+    private record PooledProducer(Session session, DestinationCache destinationCache, MessageProducer producer,
+                                  int generation) {
+
+        /**
+         * Checks whether the session and the producer are still open. This is a local check of the client library,
+         * which does not contact the JMS provider, hence a session broken on the provider side is only detected once
+         * a send through it fails, or once the failure of the connection is reported.
+         *
+         * @return {@code true} if neither the session nor the producer is closed
+         */
+        boolean isHealthy() {
+            try {
+                // a closed producer or session throws an IllegalStateException
+                producer.getDeliveryMode();
+                session.getAcknowledgeMode();
+                return true;
+            } catch (JMSException e) {
+                return false;
+            }
+        }
+
+        void close() {
+            try {
+                session.close();
+            } catch (JMSException e) {
+                ERR_OUT.println("Error occurred while closing a pooled JMS session: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.java.jms.producer;
+
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.java.jms.BallerinaJmsException;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.jms.Connection;
+import javax.jms.Destination;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageConsumer;
+import javax.jms.Session;
+
+import static io.ballerina.stdlib.java.jms.Constants.NATIVE_CONNECTION;
+import static io.ballerina.stdlib.java.jms.Constants.NATIVE_REPLY_ROUTER;
+
+/**
+ * Routes the replies received for the requests sent over a JMS connection. A single temporary reply queue and a
+ * single consumer are used per connection, and the replies are matched with the pending requests using the
+ * {@code JMSCorrelationID} of the reply.
+ *
+ * @since 1.2.0
+ */
+final class ReplyRouter {
+    private static final PrintStream ERR_OUT = System.err;
+
+    private final Destination replyDestination;
+    private final Map<String, CompletableFuture<Message>> pendingRequests = new ConcurrentHashMap<>();
+
+    private ReplyRouter(Connection connection) throws JMSException {
+        // the session is closed together with the connection
+        Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+        try {
+            this.replyDestination = session.createTemporaryQueue();
+            MessageConsumer consumer = session.createConsumer(replyDestination);
+            consumer.setMessageListener(this::onReply);
+        } catch (JMSException e) {
+            session.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the reply router of a connection, creating it when the first request is sent over the connection.
+     *
+     * @param connection Ballerina connection object
+     * @return The reply router of the connection
+     * @throws JMSException if an error occurs while creating the reply queue or its consumer
+     */
+    static ReplyRouter getReplyRouter(BObject connection) throws JMSException {
+        synchronized (connection) {
+            ReplyRouter replyRouter = (ReplyRouter) connection.getNativeData(NATIVE_REPLY_ROUTER);
+            if (Objects.isNull(replyRouter)) {
+                replyRouter = new ReplyRouter((Connection) connection.getNativeData(NATIVE_CONNECTION));
+                connection.addNativeData(NATIVE_REPLY_ROUTER, replyRouter);
+            }
+            return replyRouter;
+        }
+    }
+
+    Destination getReplyDestination() {
+        return replyDestination;
+    }
+
+    /**
+     * Registers a request which waits for a reply with the given correlation ID. A reply can not be matched with one
+     * of two requests having the same correlation ID, hence a request is rejected if another request with its
+     * correlation ID is still waiting for a reply.
+     *
+     * @param correlationId The correlation ID of the request
+     * @return A future which is completed with the reply
+     * @throws BallerinaJmsException if another request with the same correlation ID is waiting for a reply
+     */
+    CompletableFuture<Message> register(String correlationId) throws BallerinaJmsException {
+        CompletableFuture<Message> reply = new CompletableFuture<>();
+        if (Objects.nonNull(pendingRequests.putIfAbsent(correlationId, reply))) {
+            throw new BallerinaJmsException(String.format(
+                    "A request with the correlation ID %s is already waiting for a reply", correlationId));
+        }
+        return reply;
+    }
+
+    /**
+     * Removes a request which no longer waits for a reply, so that a late reply to it is discarded.
+     *
+     * @param correlationId The correlation ID of the request
+     * @param reply         The future registered for the request
+     */
+    void evict(String correlationId, CompletableFuture<Message> reply) {
+        pendingRequests.remove(correlationId, reply);
+    }
+
+    private void onReply(Message message) {
+        try {
+            String correlationId = message.getJMSCorrelationID();
+            CompletableFuture<Message> reply = Objects.isNull(correlationId) ? null :
+                    pendingRequests.remove(correlationId);
+            if (Objects.nonNull(reply)) {
+                reply.complete(message);
+            }
+        } catch (JMSException e) {
+            ERR_OUT.println("Error occurred while routing a reply message: " + e.getMessage());
+        }
+    }
+}
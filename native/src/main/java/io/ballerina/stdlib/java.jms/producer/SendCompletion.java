@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.java.jms.producer;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+
+import java.util.concurrent.CompletableFuture;
+
+import static io.ballerina.stdlib.java.jms.Constants.NATIVE_SEND_RESULT;
+import static io.ballerina.stdlib.java.jms.Constants.SEND_COMPLETION;
+import static io.ballerina.stdlib.java.jms.ModuleUtils.getModule;
+
+/**
+ * Representation of the Ballerina `jms:SendCompletion` object, through which the result of a message sent
+ * asynchronously is awaited.
+ *
+ * @since 1.2.0
+ */
+public final class SendCompletion {
+
+    private SendCompletion() {
+    }
+
+    static BObject createSendCompletion(CompletableFuture<BError> result) {
+        BObject completion = ValueCreator.createObjectValue(getModule(), SEND_COMPLETION);
+        completion.addNativeData(NATIVE_SEND_RESULT, result);
+        return completion;
+    }
+
+    /**
+     * Waits until the message is acknowledged by the JMS provider, or the send fails.
+     *
+     * @param env        Ballerina runtime environment
+     * @param completion Ballerina send completion object
+     * @return A Ballerina `jms:Error` if the message could not be sent
+     */
+    @SuppressWarnings("unchecked")
+    public static Object get(Environment env, BObject completion) {
+        CompletableFuture<BError> result = (CompletableFuture<BError>) completion.getNativeData(NATIVE_SEND_RESULT);
+        return env.yieldAndRun(result::join);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.java.jms.producer;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.java.jms.BallerinaJmsException;
+
+import java.util.Objects;
+
+import javax.jms.CompletionListener;
+import javax.jms.DeliveryMode;
+import javax.jms.Destination;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageProducer;
+
+/**
+ * Represents the delivery mode, the priority and the time to live of the messages sent by a producer. A value which
+ * is not set falls back to the default of the producer.
+ *
+ * @param deliveryMode The JMS delivery mode, or {@code null} to use the default of the producer
+ * @param priority     The message priority, or {@code null} to use the default of the producer
+ * @param timeToLive   The time to live in milliseconds, or {@code null} to use the default of the producer
+ * @since 1.2.0
+ */
+record SendOptions(Integer deliveryMode, Integer priority, Long timeToLive) {
+    static final SendOptions DEFAULT = new SendOptions(null, null, null);
+
+    private static final BString DELIVERY_MODE = StringUtils.fromString("deliveryMode");
+    private static final BString PRIORITY = StringUtils.fromString("priority");
+    private static final BString TIME_TO_LIVE_MILLIS = StringUtils.fromString("timeToLiveMillis");
+    private static final String NON_PERSISTENT = "NON_PERSISTENT";
+
+    /**
+     * Creates the send options of a Ballerina `jms:SendOptions` or `jms:ProducerOptions` record.
+     *
+     * @param options The Ballerina options record
+     * @return The send options
+     * @throws BallerinaJmsException if the priority or the time to live is invalid
+     */
+    static SendOptions from(BMap<BString, Object> options) throws BallerinaJmsException {
+        Integer deliveryMode = null;
+        if (options.containsKey(DELIVERY_MODE)) {
+            deliveryMode = NON_PERSISTENT.equals(options.getStringValue(DELIVERY_MODE).getValue()) ?
+                    DeliveryMode.NON_PERSISTENT : DeliveryMode.PERSISTENT;
+        }
+        Integer priority = null;
+        if (options.containsKey(PRIORITY)) {
+            long priorityValue = options.getIntValue(PRIORITY);
+            if (priorityValue < 0 || priorityValue > 9) {
+                throw new BallerinaJmsException("priority must be between 0 and 9.");
+            }
+            priority = (int) priorityValue;
+        }
+        Long timeToLive = null;
+        if (options.containsKey(TIME_TO_LIVE_MILLIS)) {
+            timeToLive = options.getIntValue(TIME_TO_LIVE_MILLIS);
+            if (timeToLive < 0) {
+                throw new BallerinaJmsException("timeToLiveMillis must be a non-negative integer.");
+            }
+        }
+        // sending without any option uses the plain send methods of the producer
+        if (Objects.isNull(deliveryMode) && Objects.isNull(priority) && Objects.isNull(timeToLive)) {
+            return DEFAULT;
+        }
+        return new SendOptions(deliveryMode, priority, timeToLive);
+    }
+
+    /**
+     * Sets these options as the defaults of a producer.
+     *
+     * @param producer The JMS producer
+     * @throws JMSException if an error occurs while setting the defaults
+     */
+    void applyTo(MessageProducer producer) throws JMSException {
+        if (Objects.nonNull(deliveryMode)) {
+            producer.setDeliveryMode(deliveryMode);
+        }
+        if (Objects.nonNull(priority)) {
+            producer.setPriority(priority);
+        }
+        if (Objects.nonNull(timeToLive)) {
+            producer.setTimeToLive(timeToLive);
+        }
+    }
+
+    /**
+     * Sends a message with these options, to the given destination or else to the destination of the producer.
+     *
+     * @param producer    The JMS producer
+     * @param destination The destination, or {@code null} to use the destination of the producer
+     * @param message     The JMS message
+     * @throws JMSException if an error occurs while sending the message
+     */
+    void send(MessageProducer producer, Destination destination, Message message) throws JMSException {
+        if (this == DEFAULT) {
+            if (Objects.isNull(destination)) {
+                producer.send(message);
+            } else {
+                producer.send(destination, message);
+            }
+        } else if (Objects.isNull(destination)) {
+            producer.send(message, getDeliveryMode(producer), getPriority(producer), getTimeToLive(producer));
+        } else {
+            producer.send(destination, message, getDeliveryMode(producer), getPriority(producer),
+                    getTimeToLive(producer));
+        }
+    }
+
+    /**
+     * Sends a message asynchronously with these options, to the given destination or else to the destination of the
+     * producer.
+     *
+     * @param producer    The JMS producer
+     * @param destination The destination, or {@code null} to use the destination of the producer
+     * @param message     The JMS message
+     * @param listener    The listener notified once the message is acknowledged by the JMS provider
+     * @throws JMSException if an error occurs while sending the message
+     */
+    void send(MessageProducer producer, Destination destination, Message message, CompletionListener listener)
+            throws JMSException {
+        if (this == DEFAULT) {
+            if (Objects.isNull(destination)) {
+                producer.send(message, listener);
+            } else {
+                producer.send(destination, message, listener);
+            }
+        } else if (Objects.isNull(destination)) {
+            producer.send(message, getDeliveryMode(producer), getPriority(producer), getTimeToLive(producer),
+                    listener);
+        } else {
+            producer.send(destination, message, getDeliveryMode(producer), getPriority(producer),
+                    getTimeToLive(producer), listener);
+        }
+    }
+
+    private int getDeliveryMode(MessageProducer producer) throws JMSException {
+        return Objects.nonNull(deliveryMode) ? deliveryMode : producer.getDeliveryMode();
+    }
+
+    private int getPriority(MessageProducer producer) throws JMSException {
+        return Objects.nonNull(priority) ? priority : producer.getPriority();
+    }
+
+    private long getTimeToLive(MessageProducer producer) throws JMSException {
+        return Objects.nonNull(timeToLive) ? timeToLive : producer.getTimeToLive();
+    }
+}
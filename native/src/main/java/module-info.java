@@ -21,4 +21,5 @@ module io.ballerina.stdlib.java.jms {
     requires org.slf4j;
     requires java.naming;
     requires javax.jms.api;
+    requires io.ballerina.lib.data.jsondata;
 }